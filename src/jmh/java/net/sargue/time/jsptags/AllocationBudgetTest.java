@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockBodyContent;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockPageContext;
+import org.springframework.mock.web.MockServletContext;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Allocation budget tests. Each tag is invoked in steady state, after
+ * warm-up and with the caches primed, and the bytes allocated per invocation
+ * by the current thread must stay below the budget of its path. The budgets
+ * leave room for the mocks and the JIT of each JVM, but negotiating the locale
+ * against a fresh array of locales, compiling a localized formatter or copying
+ * the input on each call goes above them.
+ * <p>
+ * The allocations depend on the JIT, so these tests are not part of the
+ * regular build. They are run with <tt>./gradlew allocationBudgets</tt>.
+ *
+ * @author Sergi Baila
+ */
+public class AllocationBudgetTest {
+
+    private static final int WARM_UP = 20_000;
+    private static final int MEASURED = 10_000;
+
+    private com.sun.management.ThreadMXBean threadBean;
+    private MockPageContext mockPageContext;
+
+    private interface Invocation {
+        void run() throws JspException;
+    }
+
+    @Before
+    public void setup() {
+        Locale.setDefault(Locale.forLanguageTag("ca"));
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+        Assume.assumeTrue(ManagementFactory.getThreadMXBean()
+                                  instanceof com.sun.management.ThreadMXBean);
+        threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        mockPageContext = new MockPageContext(new MockServletContext());
+        ((MockHttpServletRequest) mockPageContext.getRequest())
+                .addPreferredLocale(Locale.forLanguageTag("es-ES"));
+    }
+
+    private long bytesPerInvocation(Invocation invocation) throws JspException {
+        for (int i = 0; i < WARM_UP; i++) {
+            invocation.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED; i++) {
+            invocation.run();
+        }
+        long after = threadBean.getThreadAllocatedBytes(threadId);
+        return (after - before) / MEASURED;
+    }
+
+    private void assertBudget(String path, long budget, Invocation invocation)
+            throws JspException {
+        long bytes = bytesPerInvocation(invocation);
+        assertTrue(path + " allocates " + bytes + " bytes per invocation, over its budget of "
+                   + budget, bytes <= budget);
+    }
+
+    private FormatTag formatTag() {
+        FormatTag tag = new FormatTag();
+        tag.setPageContext(mockPageContext);
+        tag.setVar("formatted");
+        return tag;
+    }
+
+    private <T extends ParseSupport> T parseTag(T tag, String value, String pattern) {
+        tag.setPageContext(mockPageContext);
+        tag.setValue(value);
+        tag.setPattern(pattern);
+        tag.setVar("parsed");
+        return tag;
+    }
+
+    @Test
+    public void formatInstantPattern() throws JspException {
+        FormatTag tag = formatTag();
+        tag.setPattern("d MMM yyyy HH:mm");
+        tag.setZoneId("Europe/Madrid");
+        Instant instant = Instant.parse("2015-11-06T09:45:33.652Z");
+        assertBudget("format Instant pattern", 3_072, () -> {
+            tag.setValue(instant);
+            tag.doEndTag();
+        });
+    }
+
+    @Test
+    public void formatSpreadInstants() throws JspException {
+        FormatTag tag = formatTag();
+        tag.setPattern("d MMM yyyy HH:mm");
+        tag.setZoneId("Europe/Madrid");
+        // about five weeks apart over a century, few fall in the period of another
+        Instant[] instants = new Instant[1_021];
+        for (int i = 0; i < instants.length; i++) {
+            instants[i] = Instant.parse("1950-01-01T09:45:33Z").plusSeconds(3_100_003L * i);
+        }
+        int[] next = new int[1];
+        assertBudget("format spread Instants", 3_072, () -> {
+            tag.setValue(instants[next[0]++ % instants.length]);
+            tag.doEndTag();
+        });
+    }
+
+    @Test
+    public void formatLocalDateTimeStyle() throws JspException {
+        FormatTag tag = formatTag();
+        tag.setStyle("MS");
+        LocalDateTime localDateTime = LocalDateTime.parse("2015-11-06T10:45:33");
+        assertBudget("format LocalDateTime style", 3_072, () -> {
+            tag.setValue(localDateTime);
+            tag.doEndTag();
+        });
+    }
+
+    @Test
+    public void formatLocalDateIso() throws JspException {
+        FormatTag tag = formatTag();
+        tag.setPattern("yyyy-MM-dd");
+        LocalDate localDate = LocalDate.parse("2015-11-06");
+        assertBudget("format LocalDate ISO", 512, () -> {
+            tag.setValue(localDate);
+            tag.doEndTag();
+        });
+    }
+
+    @Test
+    public void parseLocalDate() throws JspException {
+        ParseLocalDateTag iso = parseTag(new ParseLocalDateTag(), "2015-10-28", "yyyy-MM-dd");
+        assertBudget("parseLocalDate ISO", 1_024, iso::doEndTag);
+        ParseLocalDateTag localized = parseTag(new ParseLocalDateTag(), "28 oct 2015",
+                                               "d MMM yyyy");
+        assertBudget("parseLocalDate localized", 3_072, localized::doEndTag);
+    }
+
+    @Test
+    public void parseLocalDateTime() throws JspException {
+        ParseLocalDateTimeTag tag = parseTag(new ParseLocalDateTimeTag(), "28/10/2015 10:15",
+                                             "dd/MM/yyyy HH:mm");
+        assertBudget("parseLocalDateTime", 1_536, tag::doEndTag);
+    }
+
+    @Test
+    public void parseLocalTime() throws JspException {
+        ParseLocalTimeTag tag = parseTag(new ParseLocalTimeTag(), "10:15:30", "HH:mm:ss");
+        assertBudget("parseLocalTime", 1_536, tag::doEndTag);
+    }
+
+    @Test
+    public void parseInstant() throws JspException {
+        ParseInstantTag tag = parseTag(new ParseInstantTag(), "2015-10-28 10:15",
+                                       "yyyy-MM-dd HH:mm");
+        tag.setZoneId("Europe/Madrid");
+        assertBudget("parseInstant", 2_048, tag::doEndTag);
+    }
+
+    @Test
+    public void setZoneId() throws JspException {
+        SetZoneIdIdTag tag = new SetZoneIdIdTag();
+        tag.setPageContext(mockPageContext);
+        tag.setValue("America/New_York");
+        tag.setVar("zone");
+        assertBudget("setZoneId", 256, tag::doEndTag);
+    }
+
+    @Test
+    public void zoneIdBlock() throws JspException {
+        ZoneIdTag tag = new ZoneIdTag();
+        tag.setPageContext(mockPageContext);
+        tag.setValue("Asia/Tokyo");
+        tag.setBodyContent(new MockBodyContent("", new MockHttpServletResponse()));
+        FormatTag nested = formatTag();
+        nested.setParent(tag);
+        nested.setPattern("HH:mm");
+        Instant instant = Instant.parse("2015-11-06T09:45:33.652Z");
+        assertBudget("zoneId block", 1_024, () -> {
+            tag.doStartTag();
+            nested.setValue(instant);
+            nested.doEndTag();
+            tag.doEndTag();
+        });
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.tagext.Tag;
+import jakarta.servlet.jsp.tagext.TagSupport;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockPageContext;
+import org.springframework.mock.web.MockServletContext;
+
+import java.util.Locale;
+
+/**
+ * Mock pages for the benchmarks, built like the ones of the tests.
+ *
+ * @author Sergi Baila
+ */
+final class BenchmarkPages {
+
+    /** Accept-Language headers of the benchmarks, from simple to mixed. */
+    static final String EN_US = "en-US";
+    static final String ES_MIXED = "es-ES,es;q=0.9,en;q=0.8";
+    static final String FR_CA_MIXED = "fr-CA,fr;q=0.8,en-US;q=0.6";
+
+    private BenchmarkPages() {
+    }
+
+    /**
+     * Creates a page whose request has the locales of an Accept-Language
+     * header, in order of preference.
+     *
+     * @param acceptLanguage the header, without wildcards
+     * @return the page
+     */
+    static MockPageContext page(String acceptLanguage) {
+        MockPageContext pageContext = new MockPageContext(new MockServletContext());
+        MockHttpServletRequest request = (MockHttpServletRequest) pageContext.getRequest();
+        String[] ranges = acceptLanguage.split(",");
+        // each preferred locale is added before the previous ones
+        for (int i = ranges.length - 1; i >= 0; i--) {
+            String range = ranges[i];
+            int q = range.indexOf(';');
+            request.addPreferredLocale(
+                    Locale.forLanguageTag((q < 0 ? range : range.substring(0, q)).trim()));
+        }
+        return pageContext;
+    }
+
+    /**
+     * Nests a tag inside a <tt>zoneId</tt> tag, with other tags in between,
+     * like a format tag inside loops and conditionals of a zoned block.
+     *
+     * @param pageContext the page
+     * @param tag the tag to nest
+     * @param zoneId the zone of the <tt>zoneId</tt> tag
+     * @param depth the number of enclosing tags, the outermost being the
+     *              <tt>zoneId</tt> tag; 0 for no enclosing tags
+     * @throws JspException if the <tt>zoneId</tt> tag fails
+     */
+    static void nest(MockPageContext pageContext, Tag tag, String zoneId, int depth)
+            throws JspException {
+        if (depth == 0) {
+            return;
+        }
+        ZoneIdTag zoneIdTag = new ZoneIdTag();
+        zoneIdTag.setPageContext(pageContext);
+        zoneIdTag.setValue(zoneId);
+        zoneIdTag.doStartTag();
+        Tag parent = zoneIdTag;
+        for (int i = 1; i < depth; i++) {
+            TagSupport enclosing = new TagSupport();
+            enclosing.setPageContext(pageContext);
+            enclosing.setParent(parent);
+            parent = enclosing;
+        }
+        tag.setParent(parent);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockPageContext;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of <tt>FormatSupport.doEndTag</tt> for the usual value types,
+ * patterns and request locales, with the tag nested in a <tt>zoneId</tt>
+ * block. The tag is reused, as pooled by the containers, and sets a variable
+ * so the page output does not grow.
+ *
+ * @author Sergi Baila
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatTagBenchmark {
+
+    private static final Instant INSTANT = Instant.parse("2015-11-06T09:45:33.652Z");
+    private static final LocalDateTime LOCAL_DATE_TIME = LocalDateTime.parse("2015-11-06T10:45:33");
+    private static final LocalDate LOCAL_DATE = LocalDate.parse("2015-11-06");
+
+    /**
+     * A page with the request locales and the nesting of the tags.
+     */
+    @State(Scope.Thread)
+    public static class Page {
+
+        @Param({BenchmarkPages.EN_US, BenchmarkPages.ES_MIXED, BenchmarkPages.FR_CA_MIXED})
+        public String acceptLanguage;
+
+        @Param({"0", "3"})
+        public int depth;
+
+        MockPageContext pageContext;
+        FormatTag styleTag;
+        FormatTag isoTag;
+
+        @Setup
+        public void setup() throws JspException {
+            pageContext = BenchmarkPages.page(acceptLanguage);
+            styleTag = tag(this);
+            styleTag.setStyle("MS");
+            isoTag = tag(this);
+            isoTag.setPattern("yyyy-MM-dd");
+        }
+    }
+
+    /**
+     * A tag with a pattern, on a page.
+     */
+    @State(Scope.Thread)
+    public static class PatternTag {
+
+        @Param({"dd/MM/yyyy HH:mm", "d MMM yyyy HH:mm", "EEEE, d MMMM yyyy HH:mm z"})
+        public String pattern;
+
+        FormatTag tag;
+
+        @Setup
+        public void setup(Page page) throws JspException {
+            tag = tag(page);
+            tag.setPattern(pattern);
+        }
+    }
+
+    private static FormatTag tag(Page page) throws JspException {
+        FormatTag tag = new FormatTag();
+        tag.setPageContext(page.pageContext);
+        tag.setVar("formatted");
+        BenchmarkPages.nest(page.pageContext, tag, "Europe/Madrid", page.depth);
+        return tag;
+    }
+
+    @Benchmark
+    public int instantPattern(PatternTag state) throws JspException {
+        state.tag.setValue(INSTANT);
+        return state.tag.doEndTag();
+    }
+
+    @Benchmark
+    public int localDateTimeStyle(Page page) throws JspException {
+        page.styleTag.setValue(LOCAL_DATE_TIME);
+        return page.styleTag.doEndTag();
+    }
+
+    @Benchmark
+    public int localDateIsoPattern(Page page) throws JspException {
+        page.isoTag.setValue(LOCAL_DATE);
+        return page.isoTag.doEndTag();
+    }
+}
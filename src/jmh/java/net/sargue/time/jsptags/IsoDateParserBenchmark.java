@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The ISO fast paths of {@link IsoDateParser} compared with the
+ * <tt>DateTimeFormatter</tt> they replace.
+ *
+ * @author Sergi Baila
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IsoDateParserBenchmark {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DATE_TIME =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private String date = "2015-10-28";
+    private String dateTime = "2015-10-28T10:15:30";
+
+    @Benchmark
+    public long parseDate() {
+        return IsoDateParser.parseEpochDay(date);
+    }
+
+    @Benchmark
+    public LocalDate parseDateFormatter() {
+        return LocalDate.parse(date, DATE);
+    }
+
+    @Benchmark
+    public long parseDateTime() {
+        return IsoDateParser.parseEpochSecond(dateTime);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDateTimeFormatter() {
+        return LocalDateTime.parse(dateTime, DATE_TIME);
+    }
+}
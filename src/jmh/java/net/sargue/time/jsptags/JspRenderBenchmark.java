@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.Servlet;
+import jakarta.servlet.jsp.JspFactory;
+import org.apache.jasper.JspC;
+import org.apache.jasper.runtime.JspFactoryImpl;
+import org.apache.tomcat.InstanceManager;
+import org.apache.tomcat.SimpleInstanceManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletConfig;
+import org.springframework.mock.web.MockServletContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Renders the sample pages of <tt>src/jmh/resources/webapp</tt> end to end,
+ * with the tag pooling, <tt>BodyContent</tt> buffering and
+ * <tt>JspWriter</tt> flushing of the Jasper runtime.
+ * <p>
+ * The page is translated and compiled by <tt>JspC</tt> in a temporary web
+ * application, with <tt>javatime.tld</tt> under <tt>WEB-INF</tt>, and the
+ * generated servlet is called in process with mock requests, so there is no
+ * connector nor network involved. <tt>pagesPerSecond</tt> gives the
+ * throughput and <tt>latency</tt> the distribution of the render times,
+ * p99 included.
+ *
+ * @author Sergi Baila
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JspRenderBenchmark {
+
+    private static final String PACKAGE = "org.apache.jsp";
+
+    /** The rows of the table page. */
+    private static final int ROWS = 10_000;
+
+    /** The sections of nested zoneId blocks of the zones page. */
+    private static final int SECTIONS = 200;
+
+    /** The pairs of fields of the parse page. */
+    private static final int FIELDS = 100;
+
+    /**
+     * A sample page, compiled and ready to be served.
+     */
+    @State(Scope.Benchmark)
+    public static class Page {
+
+        @Param({"table", "zones", "parse"})
+        public String page;
+
+        Path root;
+        URLClassLoader loader;
+        Servlet servlet;
+        MockServletContext servletContext;
+        Instant[] rows;
+        String[] zones;
+        String[] dates;
+        String[] whens;
+
+        @Setup
+        public void setup() throws Exception {
+            root = Files.createTempDirectory("javatime-jsp");
+            copy("/META-INF/javatime.tld", root.resolve("WEB-INF/tld/javatime.tld"));
+            copy("/webapp/" + page + ".jsp", root.resolve(page + ".jsp"));
+
+            Path classes = root.resolve("WEB-INF/classes");
+            JspC jspc = new JspC();
+            jspc.setUriroot(root.toString());
+            jspc.setOutputDir(classes.toString());
+            jspc.setPackage(PACKAGE);
+            jspc.setJspFiles(page + ".jsp");
+            jspc.setClassPath(System.getProperty("java.class.path"));
+            jspc.setCompilerSourceVM("17");
+            jspc.setCompilerTargetVM("17");
+            jspc.setCompile(true);
+            jspc.setFailOnError(true);
+            jspc.execute();
+
+            // the generated servlets take the factory when their class is loaded
+            JspFactory.setDefaultFactory(new JspFactoryImpl());
+            servletContext = new MockServletContext();
+            servletContext.setAttribute(InstanceManager.class.getName(),
+                                        new SimpleInstanceManager());
+            loader = new URLClassLoader(new URL[] { classes.toUri().toURL() },
+                                        JspRenderBenchmark.class.getClassLoader());
+            servlet = (Servlet) loader.loadClass(PACKAGE + "." + page + "_jsp")
+                                      .getDeclaredConstructor().newInstance();
+            servlet.init(new MockServletConfig(servletContext, page));
+
+            Instant instant = Instant.parse("2015-11-06T09:45:33Z");
+            rows = new Instant[ROWS];
+            for (int i = 0; i < ROWS; i++) {
+                rows[i] = instant.plusSeconds(3_617L * i);
+            }
+            zones = ZoneId.getAvailableZoneIds().stream()
+                          .filter(zone -> zone.indexOf('/') > 0)
+                          .sorted()
+                          .limit(SECTIONS)
+                          .toArray(String[]::new);
+            DateTimeFormatter date = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+            DateTimeFormatter when = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+            dates = new String[FIELDS];
+            whens = new String[FIELDS];
+            for (int i = 0; i < FIELDS; i++) {
+                LocalDateTime field = LocalDateTime.parse("2015-11-06T09:45").plusHours(29L * i);
+                dates[i] = date.format(field);
+                whens[i] = when.format(field);
+            }
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            servlet.destroy();
+            loader.close();
+            try (Stream<Path> paths = Files.walk(root)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+
+        private static void copy(String resource, Path target) throws IOException {
+            Files.createDirectories(target.getParent());
+            try (InputStream in = JspRenderBenchmark.class.getResourceAsStream(resource)) {
+                Files.copy(in, target);
+            }
+        }
+
+        /**
+         * Serves the page to a new request.
+         *
+         * @return the length of the rendered page
+         * @throws Exception if the page fails
+         */
+        int render() throws Exception {
+            MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET",
+                                                                        "/" + page + ".jsp");
+            request.addPreferredLocale(Locale.forLanguageTag("es-ES"));
+            request.setAttribute("rows", rows);
+            request.setAttribute("zones", zones);
+            request.setAttribute("now", rows[0]);
+            request.addParameter("date", dates);
+            request.addParameter("when", whens);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            servlet.service(request, response);
+            if (response.getStatus() != 200) {
+                throw new IllegalStateException(page + " answered " + response.getStatus());
+            }
+            return response.getContentAsByteArray().length;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int pagesPerSecond(Page page) throws Exception {
+        return page.render();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int latency(Page page) throws Exception {
+        return page.render();
+    }
+}
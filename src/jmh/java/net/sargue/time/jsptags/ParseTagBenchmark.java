@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockPageContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of <tt>ParseSupport.doEndTag</tt> for each parse tag, with ISO
+ * and localized patterns and the request locales of the format benchmarks.
+ *
+ * @author Sergi Baila
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParseTagBenchmark {
+
+    @Param({BenchmarkPages.EN_US, BenchmarkPages.ES_MIXED, BenchmarkPages.FR_CA_MIXED})
+    public String acceptLanguage;
+
+    private ParseLocalDateTag isoDateTag;
+    private ParseLocalDateTag dateTag;
+    private ParseLocalDateTimeTag dateTimeTag;
+    private ParseLocalTimeTag timeTag;
+    private ParseInstantTag instantTag;
+
+    @Setup
+    public void setup() throws JspException {
+        MockPageContext pageContext = BenchmarkPages.page(acceptLanguage);
+        isoDateTag = init(new ParseLocalDateTag(), pageContext, "2015-10-28", "yyyy-MM-dd");
+        dateTag = init(new ParseLocalDateTag(), pageContext, "28 oct 2015", "d MMM yyyy");
+        dateTimeTag = init(new ParseLocalDateTimeTag(), pageContext,
+                           "28/10/2015 10:15", "dd/MM/yyyy HH:mm");
+        timeTag = init(new ParseLocalTimeTag(), pageContext, "10:15:30", "HH:mm:ss");
+        instantTag = init(new ParseInstantTag(), pageContext,
+                          "2015-10-28 10:15", "yyyy-MM-dd HH:mm");
+        instantTag.setZoneId("Europe/Madrid");
+        // the month names of the localized pattern are always in Spanish
+        dateTag.setLocale("es");
+    }
+
+    private static <T extends ParseSupport> T init(T tag, MockPageContext pageContext,
+                                                   String value, String pattern) {
+        tag.setPageContext(pageContext);
+        tag.setValue(value);
+        tag.setPattern(pattern);
+        tag.setVar("parsed");
+        return tag;
+    }
+
+    @Benchmark
+    public int localDateIso() throws JspException {
+        return isoDateTag.doEndTag();
+    }
+
+    @Benchmark
+    public int localDateLocalized() throws JspException {
+        return dateTag.doEndTag();
+    }
+
+    @Benchmark
+    public int localDateTime() throws JspException {
+        return dateTimeTag.doEndTag();
+    }
+
+    @Benchmark
+    public int localTime() throws JspException {
+        return timeTag.doEndTag();
+    }
+
+    @Benchmark
+    public int instant() throws JspException {
+        return instantTag.doEndTag();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.PageContext;
+import jakarta.servlet.jsp.jstl.core.Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockPageContext;
+
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the locale negotiation, <tt>Util.getFormattingLocale</tt>,
+ * for several Accept-Language headers, and of the time zone lookup,
+ * <tt>ZoneIdSupport.getZoneId</tt>, for several nesting depths.
+ *
+ * @author Sergi Baila
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResolutionBenchmark {
+
+    /**
+     * A page with the request locales of an Accept-Language header.
+     */
+    @State(Scope.Thread)
+    public static class LocalePage {
+
+        @Param({BenchmarkPages.EN_US, BenchmarkPages.ES_MIXED, BenchmarkPages.FR_CA_MIXED})
+        public String acceptLanguage;
+
+        MockPageContext pageContext;
+
+        @Setup
+        public void setup() {
+            pageContext = BenchmarkPages.page(acceptLanguage);
+        }
+    }
+
+    /**
+     * A format tag nested in a zoneId tag, or not nested with the time zone
+     * of the page configuration for a depth of 0.
+     */
+    @State(Scope.Thread)
+    public static class ZonePage {
+
+        @Param({"0", "1", "4", "8"})
+        public int depth;
+
+        MockPageContext pageContext;
+        FormatTag tag;
+
+        @Setup
+        public void setup() throws JspException {
+            pageContext = BenchmarkPages.page(BenchmarkPages.EN_US);
+            Config.set(pageContext, ZoneIdSupport.FMT_TIME_ZONE, ZoneId.of("Europe/Madrid"),
+                       PageContext.PAGE_SCOPE);
+            tag = new FormatTag();
+            tag.setPageContext(pageContext);
+            BenchmarkPages.nest(pageContext, tag, "Europe/Madrid", depth);
+        }
+    }
+
+    @Benchmark
+    public Locale formattingLocale(LocalePage page) {
+        return Util.getFormattingLocale(page.pageContext, true, Util.availableDateLocales);
+    }
+
+    @Benchmark
+    public Locale parsingLocale(LocalePage page) {
+        return Util.getFormattingLocale(page.pageContext, false, Util.availableDateLocales);
+    }
+
+    @Benchmark
+    public ZoneId zoneId(ZonePage page) {
+        return ZoneIdSupport.getZoneId(page.pageContext, page.tag);
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.tagext.PageData;
+import jakarta.servlet.jsp.tagext.ValidationMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockPageContext;
+import org.springframework.mock.web.MockServletContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stress harness for the state the tags share between requests: the locale
+ * negotiation, the messages of <tt>Resources</tt>, the synchronized
+ * <tt>JavaTimeTagLibraryValidator.validate</tt> and the caches of formatters,
+ * zone offsets and parsed values.
+ * <p>
+ * Each task is a request of its own, with a distinct locale and time zone,
+ * that runs a <tt>format</tt> tag in a <tt>zoneId</tt> block, a cached
+ * <tt>parseLocalDate</tt>, a <tt>setZoneId</tt> and a failing
+ * <tt>parseInstant</tt>, and every 64 tasks the validator. The results are
+ * checked against a <tt>DateTimeFormatter</tt> built for the case.
+ * <p>
+ * The tasks run on pools of 1, 2, 4... platform threads up to twice the
+ * number of cores, reporting the throughput and the speedup over one thread,
+ * and then all at once on virtual threads when the JVM has them (Java 21).
+ * Run with <tt>./gradlew stress [-PstressTasks=20000] [-PstressJava=21]</tt>;
+ * on Java 21 the virtual threads pinned by a monitor are traced.
+ *
+ * @author Sergi Baila
+ */
+public final class StressHarness {
+
+    private static final String PATTERN = "EEEE d MMMM yyyy HH:mm";
+    private static final String DATE_PATTERN = "d MMMM yyyy";
+    private static final String URI = "http://sargue.net/jsptags/time";
+
+    private static final String[] LOCALES = {
+            "en-US", "es-ES", "fr-CA", "de-DE", "ja-JP", "pt-BR", "ca-ES", "it-IT"
+    };
+    private static final String[] ZONES = {
+            "Europe/Madrid", "America/New_York", "Asia/Tokyo", "Australia/Sydney",
+            "America/Sao_Paulo", "Asia/Kolkata", "Pacific/Auckland"
+    };
+
+    private static final byte[] XML_VIEW = (
+            "<jsp:root xmlns:jsp=\"http://java.sun.com/JSP/Page\""
+            + " xmlns:javatime=\"" + URI + "\" version=\"2.0\">"
+            + "<javatime:zoneId value=\"Europe/Madrid\">"
+            + "<javatime:format value=\"${now}\" pattern=\"HH:mm\" var=\"time\" scope=\"page\"/>"
+            + "</javatime:zoneId>"
+            + "<javatime:parseInstant value=\"${text}\" pattern=\"yyyy-MM-dd HH:mm\" var=\"i\"/>"
+            + "<javatime:setZoneId value=\"Asia/Tokyo\" scope=\"request\"/>"
+            + "</jsp:root>").getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * A locale, time zone and instant, with the expected results.
+     */
+    private static final class Case {
+        final Locale locale;
+        final ZoneId zone;
+        final Instant instant;
+        final String formatted;
+        final String dateText;
+        final LocalDate date;
+
+        Case(Locale locale, ZoneId zone, Instant instant) {
+            this.locale = locale;
+            this.zone = zone;
+            this.instant = instant;
+            formatted = DateTimeFormatter.ofPattern(PATTERN, locale).withZone(zone).format(instant);
+            date = LocalDate.ofInstant(instant, zone);
+            dateText = DateTimeFormatter.ofPattern(DATE_PATTERN, locale).format(date);
+        }
+    }
+
+    private final Case[] cases;
+    private final MockServletContext servletContext = new MockServletContext();
+    private final JavaTimeTagLibraryValidator validator = new JavaTimeTagLibraryValidator();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile String firstFailure;
+
+    private StressHarness() {
+        // the lengths are coprime, so every locale meets every zone
+        cases = new Case[LOCALES.length * ZONES.length];
+        Instant instant = Instant.parse("2015-01-06T09:45:00Z");
+        for (int i = 0; i < cases.length; i++) {
+            cases[i] = new Case(Locale.forLanguageTag(LOCALES[i % LOCALES.length]),
+                                ZoneId.of(ZONES[i % ZONES.length]),
+                                instant.plus(Duration.ofDays(37 * i).plusMinutes(61 * i)));
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int tasks = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int cores = Runtime.getRuntime().availableProcessors();
+        StressHarness harness = new StressHarness();
+
+        System.out.printf("Java %s, %d cores, %d tasks per run%n",
+                          Runtime.version(), cores, tasks);
+        // warm up with as many threads as cores
+        harness.run(Executors.newFixedThreadPool(cores), tasks);
+
+        System.out.printf("%-9s %8s %12s %8s%n", "mode", "threads", "tasks/s", "speedup");
+        double single = 0;
+        for (int threads : threadCounts(cores)) {
+            double throughput = harness.run(Executors.newFixedThreadPool(threads), tasks);
+            if (threads == 1) {
+                single = throughput;
+            }
+            System.out.printf("%-9s %8d %12.0f %7.2fx%n", "platform", threads, throughput,
+                              throughput / single);
+        }
+        ExecutorService virtual = virtualThreadExecutor();
+        if (virtual != null) {
+            double throughput = harness.run(virtual, tasks);
+            System.out.printf("%-9s %8s %12.0f %7.2fx%n", "virtual", "all", throughput,
+                              throughput / single);
+        } else {
+            System.out.println("virtual threads are not available on Java "
+                               + Runtime.version().feature());
+        }
+
+        if (harness.failures.get() > 0) {
+            System.out.println(harness.failures.get() + " failures, the first: "
+                               + harness.firstFailure);
+            System.exit(1);
+        }
+        System.out.println("all results correct");
+    }
+
+    private static List<Integer> threadCounts(int cores) {
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < 2 * cores; threads *= 2) {
+            counts.add(threads);
+        }
+        if (!counts.contains(cores)) {
+            counts.add(cores);
+            counts.sort(null);
+        }
+        counts.add(2 * cores);
+        return counts;
+    }
+
+    /*
+     * The executor of a virtual thread per task, or null before Java 21.
+     */
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            // not there before Java 19 and a preview feature up to Java 20
+            return null;
+        }
+    }
+
+    /**
+     * Runs the tasks on the executor, which is shut down afterwards.
+     *
+     * @param executor the executor
+     * @param tasks the number of tasks
+     * @return the throughput in tasks per second
+     * @throws InterruptedException if interrupted while waiting for the tasks
+     */
+    private double run(ExecutorService executor, int tasks) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(tasks);
+        long start = System.nanoTime();
+        for (int i = 0; i < tasks; i++) {
+            Case c = cases[i % cases.length];
+            boolean validate = i % 64 == 0;
+            executor.execute(() -> {
+                try {
+                    invoke(c, validate);
+                } catch (Throwable t) {
+                    fail(t.toString());
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        return tasks * 1e9 / elapsed;
+    }
+
+    private void invoke(Case c, boolean validate) throws JspException {
+        MockPageContext pageContext = new MockPageContext(servletContext);
+        ((MockHttpServletRequest) pageContext.getRequest()).addPreferredLocale(c.locale);
+
+        ZoneIdTag zoneIdTag = new ZoneIdTag();
+        zoneIdTag.setPageContext(pageContext);
+        zoneIdTag.setValue(c.zone.getId());
+        zoneIdTag.doStartTag();
+        FormatTag format = new FormatTag();
+        format.setPageContext(pageContext);
+        format.setParent(zoneIdTag);
+        format.setPattern(PATTERN);
+        format.setValue(c.instant);
+        format.setVar("formatted");
+        format.doEndTag();
+        check("format", c.formatted, pageContext.getAttribute("formatted"));
+
+        ParseLocalDateTag parse = new ParseLocalDateTag();
+        parse.setPageContext(pageContext);
+        parse.setValue(c.dateText);
+        parse.setPattern(DATE_PATTERN);
+        parse.setCache(true);
+        parse.setVar("parsed");
+        parse.doEndTag();
+        check("parseLocalDate", c.date, pageContext.getAttribute("parsed"));
+
+        SetZoneIdIdTag setZoneId = new SetZoneIdIdTag();
+        setZoneId.setPageContext(pageContext);
+        setZoneId.setValue(c.zone.getId());
+        setZoneId.setVar("zone");
+        setZoneId.doEndTag();
+        check("setZoneId", c.zone, pageContext.getAttribute("zone"));
+
+        String invalid = "not a date in " + c.zone.getId();
+        ParseInstantTag parseInvalid = new ParseInstantTag();
+        parseInvalid.setPageContext(pageContext);
+        parseInvalid.setValue(invalid);
+        parseInvalid.setPattern(PATTERN);
+        parseInvalid.setVar("invalid");
+        try {
+            parseInvalid.doEndTag();
+            fail("parseInstant accepted " + invalid);
+        } catch (JspException e) {
+            if (e.getMessage() == null || !e.getMessage().contains(invalid)) {
+                fail("parseInstant message " + e.getMessage());
+            }
+        }
+
+        if (validate) {
+            ValidationMessage[] messages = validator.validate("javatime", URI, new PageData() {
+                @Override
+                public InputStream getInputStream() {
+                    return new ByteArrayInputStream(XML_VIEW);
+                }
+            });
+            if (messages != null) {
+                fail("validator " + messages[0].getMessage());
+            }
+        }
+    }
+
+    private void check(String tag, Object expected, Object actual) {
+        if (!Objects.equals(expected, actual)) {
+            fail(tag + " expected " + expected + " but was " + actual);
+        }
+    }
+
+    private void fail(String failure) {
+        if (failures.getAndIncrement() == 0) {
+            firstFailure = failure;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of <tt>ZoneOffsetCache.offsetAt</tt> against a plain
+ * <tt>ZoneRules.getOffset</tt>, for instants close to each other, as the rows
+ * of a table of recent events, and for instants spread over a century, about
+ * five weeks apart, where most lookups miss the windows of the cache.
+ *
+ * @author Sergi Baila
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZoneOffsetBenchmark {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Madrid");
+    private static final int INSTANTS = 1_021;
+
+    /**
+     * The instants looked up, in turn.
+     */
+    @State(Scope.Thread)
+    public static class Instants {
+
+        @Param({"3617", "3100003"})
+        public long step;
+
+        ZoneRules rules;
+        long[] epochSeconds;
+        int next;
+
+        @Setup
+        public void setup() {
+            rules = ZONE.getRules();
+            epochSeconds = new long[INSTANTS];
+            long start = Instant.parse("1950-01-01T09:45:33Z").getEpochSecond();
+            for (int i = 0; i < INSTANTS; i++) {
+                epochSeconds[i] = start + step * i;
+            }
+        }
+
+        long nextEpochSecond() {
+            long epochSecond = epochSeconds[next];
+            next = next + 1 == INSTANTS ? 0 : next + 1;
+            return epochSecond;
+        }
+    }
+
+    @Benchmark
+    public ZoneOffset cache(Instants instants) {
+        return ZoneOffsetCache.offsetAt(ZONE, instants.nextEpochSecond());
+    }
+
+    @Benchmark
+    public ZoneOffset rules(Instants instants) {
+        return instants.rules.getOffset(Instant.ofEpochSecond(instants.nextEpochSecond()));
+    }
+}
@@ -0,0 +1,25 @@
+<%@ page contentType="text/html; charset=UTF-8" session="false" %>
+<%@ taglib uri="http://sargue.net/jsptags/time" prefix="javatime" %>
+<%-- A submitted form: the "date" and "when" parameters are parsed and
+     written back formatted in the fields. --%>
+<!DOCTYPE html>
+<html>
+<body>
+<form method="post">
+<%
+    String[] dates = request.getParameterValues("date");
+    String[] whens = request.getParameterValues("when");
+    for (int i = 0; i < dates.length; i++) {
+        pageContext.setAttribute("date", dates[i]);
+        pageContext.setAttribute("when", whens[i]);
+%>
+  <javatime:parseLocalDate value="${date}" pattern="dd/MM/yyyy" var="parsedDate"/>
+  <javatime:parseInstant value="${when}" pattern="yyyy-MM-dd HH:mm" zoneId="Europe/Madrid" var="parsedWhen"/>
+  <label>Date <input name="date" value="<javatime:format value="${parsedDate}" pattern="d MMMM yyyy"/>"></label>
+  <label>When <input name="when" value="<javatime:format value="${parsedWhen}" style="MS" zoneId="Europe/Madrid"/>"></label>
+<%
+    }
+%>
+</form>
+</body>
+</html>
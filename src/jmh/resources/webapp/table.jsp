@@ -0,0 +1,21 @@
+<%@ page contentType="text/html; charset=UTF-8" session="false" %>
+<%@ taglib uri="http://sargue.net/jsptags/time" prefix="javatime" %>
+<%-- A table of the instants of the "rows" request attribute, each formatted
+     with a pattern and a style in the time zone of the page. --%>
+<javatime:setZoneId value="Europe/Madrid"/>
+<!DOCTYPE html>
+<html>
+<body>
+<table>
+<%
+    java.time.Instant[] rows = (java.time.Instant[]) request.getAttribute("rows");
+    for (int i = 0; i < rows.length; i++) {
+        pageContext.setAttribute("row", rows[i]);
+%>
+  <tr><td><%= i %></td><td><javatime:format value="${row}" pattern="dd/MM/yyyy HH:mm"/></td><td><javatime:format value="${row}" style="MS"/></td></tr>
+<%
+    }
+%>
+</table>
+</body>
+</html>
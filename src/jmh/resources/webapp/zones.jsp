@@ -0,0 +1,29 @@
+<%@ page contentType="text/html; charset=UTF-8" session="false" %>
+<%@ taglib uri="http://sargue.net/jsptags/time" prefix="javatime" %>
+<%-- The "now" request attribute in nested zoneId blocks, one section for each
+     time zone of the "zones" request attribute. --%>
+<!DOCTYPE html>
+<html>
+<body>
+<%
+    String[] zones = (String[]) request.getAttribute("zones");
+    for (int i = 0; i < zones.length; i++) {
+        pageContext.setAttribute("zone", zones[i]);
+        pageContext.setAttribute("next", zones[(i + 1) % zones.length]);
+%>
+<section>
+  <javatime:zoneId value="${zone}">
+    <h2><javatime:format value="${now}" pattern="EEEE d MMMM yyyy HH:mm z"/></h2>
+    <javatime:zoneId value="${next}">
+      <p><javatime:format value="${now}" style="MF"/></p>
+      <javatime:zoneId value="UTC">
+        <p><javatime:format value="${now}" pattern="HH:mm:ss"/></p>
+      </javatime:zoneId>
+    </javatime:zoneId>
+  </javatime:zoneId>
+</section>
+<%
+    }
+%>
+</body>
+</html>
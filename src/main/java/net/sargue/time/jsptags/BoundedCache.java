@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A bounded map shared by concurrent requests, without locks.
+ * <p>
+ * A hit only marks its entry as used. When the map is full, the thread
+ * adding an entry frees an eighth of it with a second chance sweep: the
+ * entries used since the previous sweep are kept and marked as unused, the
+ * others are removed, and a second pass removes the entries that were all
+ * used. The eviction is approximate: concurrent puts may go a few entries
+ * over the maximum and concurrent sweeps may remove more.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @author Sergi Baila
+ */
+final class BoundedCache<K, V> {
+
+    private final ConcurrentMap<K, Node<V>> map = new ConcurrentHashMap<>();
+
+    private final int maxEntries;
+
+    /**
+     * Constructor.
+     *
+     * @param maxEntries the maximum number of entries
+     */
+    BoundedCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Gets a value, marking it as used.
+     *
+     * @param key the key
+     * @return the value, or <tt>null</tt> if absent
+     */
+    V get(K key) {
+        Node<V> node = map.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (!node.used) {
+            node.used = true;
+        }
+        return node.value;
+    }
+
+    /**
+     * Stores a value, making room first if the map is full.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    void put(K key, V value) {
+        if (map.size() >= maxEntries) {
+            evict();
+        }
+        map.put(key, new Node<>(value));
+    }
+
+    /**
+     * Removes a value, unless another one has been stored for its key
+     * meanwhile.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    void remove(K key, V value) {
+        map.computeIfPresent(key, (k, node) -> node.value == value ? null : node);
+    }
+
+    /**
+     * @return the number of entries
+     */
+    int size() {
+        return map.size();
+    }
+
+    private void evict() {
+        int excess = map.size() - maxEntries + Math.max(1, maxEntries / 8);
+        for (int pass = 0; pass < 2 && excess > 0; pass++) {
+            Iterator<Node<V>> nodes = map.values().iterator();
+            while (excess > 0 && nodes.hasNext()) {
+                Node<V> node = nodes.next();
+                if (node.used) {
+                    node.used = false;
+                } else {
+                    nodes.remove();
+                    excess--;
+                }
+            }
+        }
+    }
+
+    /*
+     * A value with the mark of the sweeps. The mark is only written when it
+     * changes, so hits on the same entry from several threads do not contend.
+     */
+    private static final class Node<V> {
+
+        final V value;
+        volatile boolean used;
+
+        Node(V value) {
+            this.value = value;
+        }
+    }
+}
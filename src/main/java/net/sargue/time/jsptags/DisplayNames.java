@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.time.format.TextStyle;
+import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * <p>
+ * The localized names of the months and the days of the week, computed once
+ * per locale for every text style and cached.
+ * </p>
+ * <p>
+ * The days of the week start with the first day of the week of the locale.
+ * The lists are unmodifiable, so they are shared by all the pages.
+ * </p>
+ * <p>
+ * The weekend is not provided by <tt>java.time</tt>, so it is taken from
+ * the week data of CLDR for the region of the locale, or for its
+ * <tt>rg</tt> extension: Friday and Saturday in most of the Middle East and
+ * North Africa, Thursday and Friday in Afghanistan, only Friday in Iran,
+ * only Sunday in India and Uganda, and Saturday and Sunday elsewhere or
+ * without a region.
+ * </p>
+ * <p>
+ * As the first day of the week and the weekend depend on the region, the
+ * locales are not reduced to the available ones of the JDK. The cache is
+ * bounded instead, as the locales may come from the page.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+final class DisplayNames {
+
+    private static final TextStyle[] STYLES = TextStyle.values();
+
+    /** The regions with a weekend from Friday to Saturday. */
+    private static final List<String> FRIDAY_SATURDAY = Arrays.asList(
+            "AE", "BH", "DZ", "EG", "IL", "IQ", "JO", "KW", "LY", "OM", "QA",
+            "SA", "SD", "SY", "YE");
+
+    /** The maximum number of cached locales. */
+    static final int MAX_LOCALES = 256;
+
+    private static final BoundedCache<Locale, DisplayNames> cache =
+            new BoundedCache<>(MAX_LOCALES);
+
+    /** The month names, indexed by text style ordinal. */
+    private final List<List<String>> months;
+    /** The day of week names, indexed by text style ordinal. */
+    private final List<List<String>> weekdays;
+    /** The first day of the week. */
+    final DayOfWeek firstDayOfWeek;
+    /** The first day of the weekend. */
+    final DayOfWeek weekendStart;
+    /** The last day of the weekend, maybe the first one. */
+    final DayOfWeek weekendEnd;
+
+    private DisplayNames(Locale locale) {
+        firstDayOfWeek = WeekFields.of(locale).getFirstDayOfWeek();
+        String region = region(locale);
+        if (FRIDAY_SATURDAY.contains(region)) {
+            weekendStart = DayOfWeek.FRIDAY;
+            weekendEnd = DayOfWeek.SATURDAY;
+        } else if (region.equals("AF")) {
+            weekendStart = DayOfWeek.THURSDAY;
+            weekendEnd = DayOfWeek.FRIDAY;
+        } else if (region.equals("IR")) {
+            weekendStart = DayOfWeek.FRIDAY;
+            weekendEnd = DayOfWeek.FRIDAY;
+        } else if (region.equals("IN") || region.equals("UG")) {
+            weekendStart = DayOfWeek.SUNDAY;
+            weekendEnd = DayOfWeek.SUNDAY;
+        } else {
+            weekendStart = DayOfWeek.SATURDAY;
+            weekendEnd = DayOfWeek.SUNDAY;
+        }
+        months = new ArrayList<>(STYLES.length);
+        weekdays = new ArrayList<>(STYLES.length);
+        for (TextStyle style : STYLES) {
+            String[] names = new String[12];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = Month.of(i + 1).getDisplayName(style, locale);
+            }
+            months.add(Collections.unmodifiableList(Arrays.asList(names)));
+            names = new String[7];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = firstDayOfWeek.plus(i).getDisplayName(style, locale);
+            }
+            weekdays.add(Collections.unmodifiableList(Arrays.asList(names)));
+        }
+    }
+
+    /**
+     * Gets the names for a locale.
+     *
+     * @param locale the locale, or <tt>null</tt> for the default locale
+     * @return the names
+     */
+    static DisplayNames forLocale(Locale locale) {
+        if (locale == null) {
+            locale = Locale.getDefault(Locale.Category.FORMAT);
+        }
+        DisplayNames names = cache.get(locale);
+        if (names == null) {
+            names = new DisplayNames(locale);
+            cache.put(locale, names);
+        }
+        return names;
+    }
+
+    /*
+     * The region of a locale, the one of its rg extension if any, like
+     * "sazzzz".
+     */
+    private static String region(Locale locale) {
+        String rg = locale.getUnicodeLocaleType("rg");
+        if (rg != null && rg.length() == 6) {
+            return rg.substring(0, 2).toUpperCase(Locale.ROOT);
+        }
+        return locale.getCountry();
+    }
+
+    /**
+     * Tells whether a day of the week is part of the weekend.
+     *
+     * @param dayOfWeek the day of the week
+     * @return true if it is a weekend day
+     */
+    boolean isWeekend(DayOfWeek dayOfWeek) {
+        int length = (weekendEnd.getValue() - weekendStart.getValue() + 7) % 7;
+        return (dayOfWeek.getValue() - weekendStart.getValue() + 7) % 7 <= length;
+    }
+
+    /**
+     * Gets the month names, from January to December.
+     *
+     * @param style the text style
+     * @return the names
+     */
+    List<String> months(TextStyle style) {
+        return months.get(style.ordinal());
+    }
+
+    /**
+     * Gets the day of week names, starting with the first day of the week.
+     *
+     * @param style the text style
+     * @return the names
+     */
+    List<String> weekdays(TextStyle style) {
+        return weekdays.get(style.ordinal());
+    }
+
+    /**
+     * Parses a text style attribute: <tt>full</tt>, <tt>short</tt> or
+     * <tt>narrow</tt>, optionally followed by <tt>_standalone</tt>, in any
+     * case.
+     *
+     * @param style the text style, or <tt>null</tt> for <tt>full</tt>
+     * @return the text style
+     * @throws IllegalArgumentException if the text style is invalid
+     */
+    static TextStyle parseStyle(String style) {
+        if (style == null || style.isEmpty()) {
+            return TextStyle.FULL;
+        }
+        try {
+            return TextStyle.valueOf(style.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid text style: " + style, e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
+import jakarta.servlet.jsp.PageContext;
+import jakarta.servlet.jsp.tagext.TagSupport;
+
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+/**
+ * <p>
+ * A handler for &lt;displayNames&gt; that sets a variable with the localized
+ * names of the months or of the days of the week, as an unmodifiable
+ * <tt>List&lt;String&gt;</tt>.
+ * </p>
+ * <p>
+ * The locale is negotiated like in the format tags and the names are cached
+ * per locale (see {@link DisplayNames}), so a calendar gets all its names
+ * without formatting anything.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+@SuppressWarnings("UnusedDeclaration")
+public class DisplayNamesTag extends TagSupport {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The month names. */
+    public static final String MONTH = "month";
+    /** The day of week names. */
+    public static final String WEEKDAY = "weekday";
+
+    /** The field attribute. */
+    private String field;
+    /** The style attribute. */
+    private String style;
+    /** The locale attribute. */
+    private Locale locale;
+    /** The var attribute. */
+    private String var;
+    /** The scope attribute. */
+    private int scope;
+
+    /**
+     * Constructor.
+     */
+    public DisplayNamesTag() {
+        super();
+        init();
+    }
+
+    private void init() {
+        field = null;
+        style = null;
+        locale = null;
+        var = null;
+        scope = PageContext.PAGE_SCOPE;
+    }
+
+    public void setField(String field) {
+        this.field = field;
+    }
+
+    public void setStyle(String style) {
+        this.style = style;
+    }
+
+    public void setLocale(Object loc) throws JspTagException {
+        if (loc == null) {
+            this.locale = null;
+        } else if (loc instanceof Locale) {
+            this.locale = (Locale) loc;
+        } else if (loc instanceof String) {
+            this.locale = Util.parseLocale((String) loc);
+        } else
+            throw new JspTagException("Can only accept Locale or String objects.");
+    }
+
+    public void setVar(String var) {
+        this.var = var;
+    }
+
+    public void setScope(String scope) {
+        this.scope = Util.getScope(scope);
+    }
+
+    @Override
+    public int doEndTag() throws JspException {
+        TextStyle textStyle;
+        try {
+            textStyle = DisplayNames.parseStyle(style);
+        } catch (IllegalArgumentException e) {
+            throw new JspTagException(e.getMessage());
+        }
+        boolean month = MONTH.equals(field);
+        if (!month && !WEEKDAY.equals(field)) {
+            throw new JspTagException("Invalid field: " + field);
+        }
+
+        Locale locale = this.locale;
+        if (locale == null) {
+            locale = Util.getFormattingLocale(pageContext, true,
+                                              Util.availableDateLocales);
+        }
+        DisplayNames names = DisplayNames.forLocale(locale);
+        pageContext.setAttribute(var,
+                                 month ? names.months(textStyle) : names.weekdays(textStyle),
+                                 scope);
+        return EVAL_PAGE;
+    }
+
+    // Releases any resources we may have (or inherit)
+    @Override
+    public void release() {
+        init();
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Period;
+
+/**
+ * <p>
+ * A handler for &lt;formatDuration&gt; that formats a <tt>Duration</tt> or a
+ * <tt>Period</tt>.
+ * </p>
+ * <p>
+ * The style attribute is one of:
+ * </p>
+ * <ul>
+ *     <li><tt>compact</tt> (default): the two most significant units, like
+ *     <tt>1h 05m</tt>, with the localized unit symbols. Not for periods with
+ *     units of both signs, like <tt>P1M-3D</tt>.</li>
+ *     <li><tt>clock</tt>: hours, minutes and seconds, like <tt>01:05:00</tt>.
+ *     Only for durations.</li>
+ *     <li><tt>iso</tt>: the ISO-8601 representation, like <tt>PT1H5M</tt>.</li>
+ * </ul>
+ * <p>
+ * Without the var attribute the result is written directly to the page, one
+ * character at a time for the numbers, without intermediate strings.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+@SuppressWarnings("UnusedDeclaration")
+public class FormatDurationTag extends FormatTag {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The compact style. */
+    public static final String COMPACT = "compact";
+    /** The clock style. */
+    public static final String CLOCK = "clock";
+    /** The ISO style. */
+    public static final String ISO = "iso";
+
+    @Override
+    public int doEndTag() throws JspException {
+        if (value == null) {
+            if (var != null) {
+                pageContext.removeAttribute(var, scope);
+            }
+            return EVAL_PAGE;
+        }
+        if (!(value instanceof Duration) && !(value instanceof Period)) {
+            throw new JspException(
+                    "value attribute of formatDuration tag must be a Duration or a Period," +
+                    " was: " + value.getClass().getName());
+        }
+        String style = this.style == null ? COMPACT : this.style;
+        if (!COMPACT.equals(style) && !CLOCK.equals(style) && !ISO.equals(style)) {
+            throw new JspTagException("Invalid duration style: " + style);
+        }
+        if (CLOCK.equals(style) && value instanceof Period) {
+            throw new JspTagException("The clock style is not supported for a Period");
+        }
+        if (COMPACT.equals(style) && value instanceof Period && isMixedSign((Period) value)) {
+            throw new JspTagException(
+                    "The compact style is not supported for a Period with units of both signs: "
+                    + value);
+        }
+
+        // only the compact style is localized
+        TimeUnits units = COMPACT.equals(style)
+                ? TimeUnits.forLocale(getEffectiveLocale())
+                : null;
+
+        try {
+            if (var != null) {
+                StringBuilder sb = new StringBuilder(24);
+                format(sb, style, units);
+                pageContext.setAttribute(var, sb.toString(), scope);
+            } else {
+                format(pageContext.getOut(), style, units);
+            }
+        } catch (IOException ioe) {
+            throw new JspTagException(ioe.toString(), ioe);
+        }
+
+        return EVAL_PAGE;
+    }
+
+    private void format(Appendable out, String style, TimeUnits units)
+            throws IOException {
+        if (ISO.equals(style)) {
+            out.append(value.toString());
+        } else if (value instanceof Period) {
+            appendCompact(out, (Period) value, units);
+        } else if (CLOCK.equals(style)) {
+            appendClock(out, (Duration) value);
+        } else {
+            appendCompact(out, (Duration) value, units);
+        }
+    }
+
+    /**
+     * Appends a duration as hours, minutes and seconds. Hours are not limited
+     * to a day. Fractions of second are truncated.
+     *
+     * @param out the output
+     * @param duration the duration
+     * @throws IOException if the output fails
+     */
+    static void appendClock(Appendable out, Duration duration) throws IOException {
+        long negative = negativeSeconds(out, duration);
+        appendPadded(out, -(negative / 3600));
+        out.append(':');
+        appendPadded(out, -(negative / 60 % 60));
+        out.append(':');
+        appendPadded(out, -(negative % 60));
+    }
+
+    /**
+     * Appends the two most significant units of a duration, from days to
+     * seconds. Fractions of second are truncated.
+     *
+     * @param out the output
+     * @param duration the duration
+     * @param units the unit symbols
+     * @throws IOException if the output fails
+     */
+    static void appendCompact(Appendable out, Duration duration, TimeUnits units)
+            throws IOException {
+        long negative = negativeSeconds(out, duration);
+        long days = -(negative / 86400);
+        long hours = -(negative / 3600 % 24);
+        long minutes = -(negative / 60 % 60);
+        long secs = -(negative % 60);
+        if (days != 0) {
+            appendUnits(out, days, units.daySymbol, hours, units.hourSymbol);
+        } else if (hours != 0) {
+            appendUnits(out, hours, units.hourSymbol, minutes, units.minuteSymbol);
+        } else if (minutes != 0) {
+            appendUnits(out, minutes, units.minuteSymbol, secs, units.secondSymbol);
+        } else {
+            appendNumber(out, secs);
+            out.append(units.secondSymbol);
+        }
+    }
+
+    /**
+     * Appends the two most significant units of a period, from years to days.
+     * The period is not normalized, and its units must have the same sign,
+     * which is printed once.
+     *
+     * @param out the output
+     * @param period the period
+     * @param units the unit symbols
+     * @throws IOException if the output fails
+     */
+    static void appendCompact(Appendable out, Period period, TimeUnits units)
+            throws IOException {
+        if (period.isNegative()) {
+            out.append('-');
+        }
+        long years = Math.abs((long) period.getYears());
+        long months = Math.abs((long) period.getMonths());
+        long days = Math.abs((long) period.getDays());
+        if (years != 0) {
+            appendUnits(out, years, units.yearSymbol, months, units.monthSymbol);
+        } else if (months != 0) {
+            appendUnits(out, months, units.monthSymbol, days, units.daySymbol);
+        } else {
+            appendNumber(out, days);
+            out.append(units.daySymbol);
+        }
+    }
+
+    /*
+     * Whether a period has both positive and negative units, which a single
+     * sign cannot represent.
+     */
+    private static boolean isMixedSign(Period period) {
+        int years = period.getYears();
+        int months = period.getMonths();
+        int days = period.getDays();
+        return (years < 0 || months < 0 || days < 0) && (years > 0 || months > 0 || days > 0);
+    }
+
+    /*
+     * Appends the sign of a duration and returns its seconds, rounded towards
+     * zero, as a negative magnitude: the units are taken from it and negated,
+     * as Long.MIN_VALUE seconds has no positive magnitude.
+     */
+    private static long negativeSeconds(Appendable out, Duration duration) throws IOException {
+        long seconds = truncatedSeconds(duration);
+        if (seconds < 0) {
+            out.append('-');
+            return seconds;
+        }
+        return -seconds;
+    }
+
+    /*
+     * The seconds of the duration, rounded towards zero.
+     */
+    private static long truncatedSeconds(Duration duration) {
+        long seconds = duration.getSeconds();
+        return seconds < 0 && duration.getNano() > 0 ? seconds + 1 : seconds;
+    }
+
+    private static void appendUnits(Appendable out, long first, String firstSymbol,
+                                    long second, String secondSymbol)
+            throws IOException {
+        appendNumber(out, first);
+        out.append(firstSymbol).append(' ');
+        appendPadded(out, second);
+        out.append(secondSymbol);
+    }
+
+    /*
+     * Appends a non negative number, at least two digits.
+     */
+    private static void appendPadded(Appendable out, long n) throws IOException {
+        if (n < 10) {
+            out.append('0');
+        }
+        appendNumber(out, n);
+    }
+
+    /*
+     * Appends a non negative number digit by digit.
+     */
+    private static void appendNumber(Appendable out, long n) throws IOException {
+        long divisor = 1;
+        while (n / divisor >= 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            out.append((char) ('0' + n / divisor % 10));
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 Sergi Baila
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>
+ * A handler for &lt;formatList&gt; that formats every element of an array or
+ * a collection of temporals with a single formatter.
+ * </p>
+ * <p>
+ * The result is a <tt>String[]</tt> if the value is an array or a
+ * <tt>List&lt;String&gt;</tt> otherwise, in the same order as the input.
+ * Inputs of at least <tt>threshold</tt> elements are split and formatted in
+ * parallel on the common fork-join pool, as <tt>DateTimeFormatter</tt> is
+ * immutable and thread-safe.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+@SuppressWarnings("UnusedDeclaration")
+public class FormatListTag extends FormatTag {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The default value of the threshold attribute. */
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    /** The threshold attribute. */
+    private int threshold = DEFAULT_THRESHOLD;
+
+    /**
+     * Sets the threshold attribute, the minimum number of elements to format
+     * in parallel. It is also the size of each chunk of the parallel split.
+     *
+     * @param threshold the threshold
+     * @throws JspTagException if the threshold is not positive
+     */
+    public void setThreshold(int threshold) throws JspTagException {
+        if (threshold < 1) {
+            throw new JspTagException("Invalid threshold: " + threshold);
+        }
+        this.threshold = threshold;
+    }
+
+    /*
+     * Formats all the elements of the value.
+     */
+    @Override
+    public int doEndTag() throws JspException {
+        if (var == null) {
+            throw new JspTagException("formatList tag requires the var attribute");
+        }
+        if (value == null) {
+            pageContext.removeAttribute(var, scope);
+            return EVAL_PAGE;
+        }
+
+        Object[] values;
+        if (value instanceof Object[]) {
+            values = (Object[]) value;
+        } else if (value instanceof Collection) {
+            values = ((Collection<?>) value).toArray();
+        } else {
+            throw new JspException(
+                    "value attribute of formatList tag must be an array or a Collection," +
+                    " was: " + value.getClass().getName());
+        }
+        FormatterSpec spec = formatterSpec();
+        boolean needsZone = spec.usesZone;
+        TemporalAccessor[] temporals = new TemporalAccessor[values.length];
+        for (int i = 0; i < values.length; i++) {
+            Object v = values[i];
+            if (v == null) {
+                continue;
+            }
+            ValueType type = ValueType.of(v);
+            if (!type.supported) {
+                throw new JspException(
+                        "elements of formatList tag value must be TemporalAccessor," +
+                        " Date, Calendar or Long, was: " + v.getClass().getName());
+            }
+            temporals[i] = type.toTemporal(v);
+            needsZone = needsZone || type.hasInstant(temporals[i]);
+        }
+
+        // Create formatters, the zoned one is used for the values that need
+        // the system default zone when no time zone is specified
+        DateTimeFormatter formatter = withLocale(spec);
+        ZoneId zoneId = needsZone ? getEffectiveZoneId() : null;
+        if (zoneId != null) {
+            formatter = formatter.withZone(zoneId);
+        }
+        DateTimeFormatter zoned = zoneId != null
+                ? formatter
+                : formatter.withZone(ZoneId.systemDefault());
+
+        String[] formatted = new String[values.length];
+        FormatListAction action = new FormatListAction(temporals, formatted,
+                spec, formatter, zoned, 0, values.length, threshold);
+        if (values.length < threshold) {
+            action.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(action);
+        }
+
+        Object result = value instanceof Object[]
+                ? formatted
+                : Arrays.asList(formatted);
+        pageContext.setAttribute(var, result, scope);
+
+        return EVAL_PAGE;
+    }
+
+    // Releases any resources we may have (or inherit)
+    @Override
+    public void release() {
+        super.release();
+        threshold = DEFAULT_THRESHOLD;
+    }
+
+    /**
+     * Formats a range of the values, splitting it in halves while it is
+     * larger than the threshold.
+     */
+    private static final class FormatListAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final TemporalAccessor[] values;
+        private final String[] formatted;
+        private final transient FormatterSpec spec;
+        private final transient DateTimeFormatter formatter;
+        private final transient DateTimeFormatter zoned;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        FormatListAction(TemporalAccessor[] values, String[] formatted, FormatterSpec spec,
+                         DateTimeFormatter formatter, DateTimeFormatter zoned,
+                         int from, int to, int threshold) {
+            this.values = values;
+            this.formatted = formatted;
+            this.spec = spec;
+            this.formatter = formatter;
+            this.zoned = zoned;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    TemporalAccessor v = values[i];
+                    if (v == null) {
+                        continue;
+                    }
+                    ValueType type = ValueType.of(v);
+                    String s = type.fastFormat(spec, v);
+                    if (s == null) {
+                        DateTimeFormatter f = type.needsDefaultZone
+                                ? zoned
+                                : formatter;
+                        s = f.format(v);
+                    }
+                    formatted[i] = s;
+                }
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new FormatListAction(values, formatted, spec,
+                                formatter, zoned, from, mid, threshold),
+                          new FormatListAction(values, formatted, spec,
+                                formatter, zoned, mid, to, threshold));
+            }
+        }
+    }
+}
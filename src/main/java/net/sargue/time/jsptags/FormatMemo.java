@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.PageContext;
+
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Memoized results of &lt;format memo="..."&gt;, stored as an attribute of
+ * the request or application scope.
+ * </p>
+ * <p>
+ * Results are keyed by the value and the resolved formatter (pattern or
+ * style, locale and time zone) in a small {@link BoundedCache}, so the
+ * application memo is shared by the request threads without locks.
+ * Application scope entries expire after {@link #APPLICATION_TTL_NANOS}.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+final class FormatMemo {
+
+    /** The attribute name under which the memo is stored. */
+    static final String ATTRIBUTE = "net.sargue.time.jsptags.FormatMemo";
+
+    /** Maximum number of entries of a request memo. */
+    static final int REQUEST_MAX_ENTRIES = 64;
+
+    /** Maximum number of entries of the application memo. */
+    static final int APPLICATION_MAX_ENTRIES = 1024;
+
+    /** Time to live of the application memo entries. */
+    static final long APPLICATION_TTL_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final BoundedCache<Key, Entry> entries;
+    private final long ttlNanos;
+
+    private FormatMemo(int maxEntries, long ttlNanos) {
+        this.entries = new BoundedCache<>(maxEntries);
+        this.ttlNanos = ttlNanos;
+    }
+
+    /**
+     * Gets the memo of the given scope, creating it if needed.
+     *
+     * @param pc the page context
+     * @param scope <tt>PageContext.REQUEST_SCOPE</tt> or
+     *              <tt>PageContext.APPLICATION_SCOPE</tt>
+     * @return the memo
+     */
+    static FormatMemo forScope(PageContext pc, int scope) {
+        FormatMemo memo = (FormatMemo) pc.getAttribute(ATTRIBUTE, scope);
+        if (memo == null) {
+            if (scope == PageContext.APPLICATION_SCOPE) {
+                synchronized (FormatMemo.class) {
+                    memo = (FormatMemo) pc.getAttribute(ATTRIBUTE, scope);
+                    if (memo == null) {
+                        memo = new FormatMemo(APPLICATION_MAX_ENTRIES,
+                                              APPLICATION_TTL_NANOS);
+                        pc.setAttribute(ATTRIBUTE, memo, scope);
+                    }
+                }
+            } else {
+                memo = new FormatMemo(REQUEST_MAX_ENTRIES, 0);
+                pc.setAttribute(ATTRIBUTE, memo, scope);
+            }
+        }
+        return memo;
+    }
+
+    /**
+     * Gets a memoized result.
+     *
+     * @param key the key
+     * @return the formatted value, or <tt>null</tt> if absent or expired
+     */
+    String get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (ttlNanos > 0 && System.nanoTime() - entry.created > ttlNanos) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.formatted;
+    }
+
+    /**
+     * Stores a result.
+     *
+     * @param key the key
+     * @param formatted the formatted value
+     */
+    void put(Key key, String formatted) {
+        entries.put(key, new Entry(formatted, ttlNanos > 0 ? System.nanoTime() : 0));
+    }
+
+    private static final class Entry {
+
+        final String formatted;
+        final long created;
+
+        Entry(String formatted, long created) {
+            this.formatted = formatted;
+            this.created = created;
+        }
+    }
+
+    /**
+     * The value and the resolved formatter settings.
+     */
+    static final class Key {
+
+        private final Object value;
+        private final String pattern;
+        private final String style;
+        private final Locale locale;
+        private final ZoneId zoneId;
+        private final int hash;
+
+        Key(Object value, String pattern, String style, Locale locale, ZoneId zoneId) {
+            this.value = value;
+            this.pattern = pattern;
+            this.style = style;
+            this.locale = locale;
+            this.zoneId = zoneId;
+            this.hash = Objects.hash(value, pattern, style, locale, zoneId);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hash == other.hash
+                   && value.equals(other.value)
+                   && Objects.equals(pattern, other.pattern)
+                   && Objects.equals(style, other.style)
+                   && Objects.equals(locale, other.locale)
+                   && Objects.equals(zoneId, other.zoneId);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,546 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalQueries;
+import java.time.temporal.TemporalQuery;
+import java.time.temporal.ValueRange;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A handler for &lt;formatRange&gt; that formats a range of two values,
+ * collapsing the fields they have in common, like <tt>3&ndash;5 March 2026</tt>
+ * or <tt>6 Nov 2015 10:00&ndash;11:30</tt>.
+ * </p>
+ * <p>
+ * Both values are formatted with the same formatter, so the locale and the
+ * time zone are resolved once. The fields of both values are compared from
+ * the most significant (era, year, month, day, AM/PM, hour...) to the least,
+ * and only the fields more significant than the first one that differs may be
+ * printed once: a leading run of them ending in whitespace and a trailing run
+ * of them starting with whitespace, around the differing parts joined by the
+ * separator. So <tt>9:30 AM&ndash;9:30 PM</tt> keeps both times, and two
+ * values in different years keep their full dates and times.
+ * </p>
+ * <p>
+ * The tokens of each pattern or style are compiled once per locale and
+ * cached. The values are converted to the time zone before formatting them,
+ * so the formatters of the tokens are used as they are.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+@SuppressWarnings("UnusedDeclaration")
+public class FormatRangeTag extends FormatTag {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The default separator, an en dash. */
+    public static final String DEFAULT_SEPARATOR = "\u2013";
+
+    /** The compared fields, from the most significant; the index is the rank. */
+    private static final ChronoField[] FIELDS = {
+            ChronoField.ERA, ChronoField.YEAR, ChronoField.MONTH_OF_YEAR,
+            ChronoField.DAY_OF_MONTH, ChronoField.AMPM_OF_DAY, ChronoField.HOUR_OF_DAY,
+            ChronoField.MINUTE_OF_HOUR, ChronoField.SECOND_OF_MINUTE, ChronoField.NANO_OF_SECOND
+    };
+
+    /** The rank of zone and offset fields, printed once only if equal. */
+    private static final int ZONE = -1;
+
+    /** The tokens of patterns that cannot be collapsed. */
+    private static final Token[] NO_TOKENS = new Token[0];
+
+    private static final BoundedCache<Key, Token[]> localized =
+            new BoundedCache<>(FormatterSpec.MAX_PATTERNS);
+
+    /**
+     * A literal text or a field of a pattern, with its own localized
+     * formatter.
+     */
+    static final class Token {
+        final String literal;
+        final DateTimeFormatter formatter;
+        final int rank;
+
+        Token(String literal) {
+            this.literal = literal;
+            this.formatter = null;
+            this.rank = FIELDS.length;
+        }
+
+        Token(String letters, int rank, Locale locale) {
+            this.literal = null;
+            this.formatter = DateTimeFormatter.ofPattern(letters, locale);
+            this.rank = rank;
+        }
+    }
+
+    /** The from attribute. */
+    private Object from;
+    /** The to attribute. */
+    private Object to;
+    /** The separator attribute. */
+    private String separator;
+
+    /**
+     * Constructor.
+     */
+    public FormatRangeTag() {
+        super();
+        init();
+    }
+
+    private void init() {
+        from = null;
+        to = null;
+        separator = DEFAULT_SEPARATOR;
+    }
+
+    /**
+     * Sets the from attribute.
+     *
+     * @param from the start of the range
+     */
+    public void setFrom(Object from) {
+        this.from = from;
+    }
+
+    /**
+     * Sets the to attribute.
+     *
+     * @param to the end of the range
+     */
+    public void setTo(Object to) {
+        this.to = to;
+    }
+
+    /**
+     * Sets the separator attribute.
+     *
+     * @param separator the separator between both ends of the range
+     */
+    public void setSeparator(String separator) {
+        this.separator = separator;
+    }
+
+    @Override
+    public int doEndTag() throws JspException {
+        if (from == null || to == null) {
+            if (var != null) {
+                pageContext.removeAttribute(var, scope);
+            }
+            return EVAL_PAGE;
+        }
+
+        ValueType fromType = ValueType.of(from);
+        ValueType toType = ValueType.of(to);
+        if (!fromType.supported || !toType.supported) {
+            Object invalid = fromType.supported ? to : from;
+            throw new JspException(
+                    "from and to attributes of formatRange tag must be TemporalAccessor," +
+                    " Date, Calendar or Long, was: " + invalid.getClass().getName());
+        }
+        TemporalAccessor fromTemporal = fromType.toTemporal(from);
+        TemporalAccessor toTemporal = toType.toTemporal(to);
+
+        // Create formatter, set its locale and time zone once for both values
+        FormatterSpec spec = formatterSpec();
+        DateTimeFormatter formatter = withLocale(spec);
+        ZoneId zoneId = null;
+        if (spec.usesZone || fromType.hasInstant(fromTemporal)
+            || toType.hasInstant(toTemporal)) {
+            zoneId = getEffectiveZoneId();
+        }
+
+        String formatted;
+        String style = spec.pattern != null ? null : this.style == null ? "M-" : this.style;
+        Token[] tokens = tokens(spec.pattern, style, formatter.getLocale());
+        fromTemporal = zoned(fromTemporal, zoneId, fromType);
+        toTemporal = zoned(toTemporal, zoneId, toType);
+        if (tokens == NO_TOKENS) {
+            String fromText = formatter.format(fromTemporal);
+            String toText = formatter.format(toTemporal);
+            formatted = fromText.equals(toText) ? fromText : fromText + separator + toText;
+        } else {
+            int rank = firstDifference(fromTemporal, toTemporal);
+            formatted = collapse(tokens, rank, parts(tokens, fromTemporal),
+                                 parts(tokens, toTemporal), separator);
+        }
+
+        if (var != null) {
+            pageContext.setAttribute(var, formatted, scope);
+        } else {
+            try {
+                pageContext.getOut().print(formatted);
+            } catch (IOException ioe) {
+                throw new JspTagException(ioe.toString(), ioe);
+            }
+        }
+
+        return EVAL_PAGE;
+    }
+
+    /*
+     * The localized pattern of a style.
+     */
+    private static String stylePattern(String style, Locale locale) throws JspException {
+        return DateTimeFormatterBuilder.getLocalizedDateTimePattern(
+                Util.selectStyle(style.charAt(0)), Util.selectStyle(style.charAt(1)),
+                IsoChronology.INSTANCE, locale);
+    }
+
+    /*
+     * The value in the time zone it is formatted with, as the formatter
+     * would see it with withZone(): converted to the zone if it has an
+     * instant, or just reporting the zone otherwise.
+     */
+    private static TemporalAccessor zoned(TemporalAccessor temporal, ZoneId zoneId,
+                                          ValueType type) {
+        ZoneId zone = zoneId != null || !type.needsDefaultZone ? zoneId : ZoneId.systemDefault();
+        if (zone == null) {
+            return temporal;
+        }
+        if (temporal.isSupported(ChronoField.INSTANT_SECONDS)) {
+            return ZonedDateTime.ofInstant(Instant.from(temporal), zone);
+        }
+        return new ZonedValue(temporal, zone);
+    }
+
+    /**
+     * Finds the most significant field that differs between both values.
+     *
+     * @param from the start
+     * @param to the end
+     * @return the rank of the field, or the number of compared fields if
+     *         none differs
+     */
+    static int firstDifference(TemporalAccessor from, TemporalAccessor to) {
+        for (int rank = 0; rank < FIELDS.length; rank++) {
+            ChronoField field = FIELDS[rank];
+            boolean supported = from.isSupported(field);
+            if (supported != to.isSupported(field)
+                || (supported && from.getLong(field) != to.getLong(field))) {
+                return rank;
+            }
+        }
+        return FIELDS.length;
+    }
+
+    private static String[] parts(Token[] tokens, TemporalAccessor temporal) {
+        String[] parts = new String[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            Token token = tokens[i];
+            parts[i] = token.literal != null ? token.literal : token.formatter.format(temporal);
+        }
+        return parts;
+    }
+
+    /**
+     * Joins both formatted ends of a range, printing once the fields more
+     * significant than the first differing one. The common prefix must end
+     * in a literal ending with whitespace and the common suffix must start
+     * with a literal starting with whitespace, so numbers and words are
+     * never split.
+     *
+     * @param tokens the tokens of the pattern
+     * @param rank the rank of the most significant differing field
+     * @param from the formatted tokens of the start
+     * @param to the formatted tokens of the end
+     * @param separator the separator
+     * @return the collapsed range
+     */
+    static String collapse(Token[] tokens, int rank, String[] from, String[] to,
+                           String separator) {
+        int n = tokens.length;
+        String fromText = String.join("", from);
+        String toText = String.join("", to);
+        if (fromText.equals(toText)) {
+            return fromText;
+        }
+
+        // leading tokens printed once, up to the last literal ending in whitespace
+        int prefix = 0;
+        for (int i = 0; i < n; i++) {
+            if (tokens[i].literal != null) {
+                if (endsWithWhitespace(tokens[i].literal)) {
+                    prefix = i + 1;
+                }
+            } else if (!shared(tokens[i], rank, from[i], to[i])) {
+                break;
+            }
+        }
+
+        // trailing tokens printed once, from the first literal starting with whitespace
+        int suffix = n;
+        boolean differs = false;
+        for (int i = n - 1; i >= prefix; i--) {
+            if (tokens[i].literal != null) {
+                if (!tokens[i].literal.isEmpty() && isSpace(tokens[i].literal.charAt(0))) {
+                    suffix = i;
+                }
+            } else if (!shared(tokens[i], rank, from[i], to[i])) {
+                differs = true;
+                break;
+            }
+        }
+        if (!differs) {
+            // nothing would be left between the common parts
+            prefix = 0;
+            suffix = n;
+        }
+
+        StringBuilder sb = new StringBuilder(fromText.length() + separator.length()
+                                             + toText.length());
+        for (int i = 0; i < suffix; i++) {
+            sb.append(from[i]);
+        }
+        sb.append(separator);
+        for (int i = prefix; i < n; i++) {
+            sb.append(to[i]);
+        }
+        return sb.toString();
+    }
+
+    private static boolean shared(Token token, int rank, String from, String to) {
+        return (token.rank == ZONE || token.rank < rank) && from.equals(to);
+    }
+
+    private static boolean endsWithWhitespace(String text) {
+        return !text.isEmpty() && isSpace(text.charAt(text.length() - 1));
+    }
+
+    /*
+     * Whitespace, including the no-break spaces of the localized patterns.
+     */
+    private static boolean isSpace(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c);
+    }
+
+    /**
+     * Gets the localized tokens of a pattern or style, or <tt>NO_TOKENS</tt>
+     * if the pattern has optional sections, padding or letters this tag does
+     * not rank.
+     *
+     * @param pattern the pattern, or <tt>null</tt> for a style
+     * @param style the two character style, if there is no pattern
+     * @param locale the locale
+     * @return the tokens
+     * @throws JspException if the style is invalid
+     */
+    static Token[] tokens(String pattern, String style, Locale locale) throws JspException {
+        Key key = new Key(pattern, style, locale);
+        Token[] tokens = localized.get(key);
+        if (tokens == null) {
+            tokens = tokenize(pattern != null ? pattern : stylePattern(style, locale), locale);
+            localized.put(key, tokens);
+        }
+        return tokens;
+    }
+
+    private static Token[] tokenize(String pattern, Locale locale) {
+        List<Token> tokens = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int length = pattern.length();
+        for (int pos = 0; pos < length; pos++) {
+            char cur = pattern.charAt(pos);
+            if (cur == '\'') {
+                if (pos + 1 < length && pattern.charAt(pos + 1) == '\'') {
+                    // an escaped quote
+                    literal.append('\'');
+                    pos++;
+                    continue;
+                }
+                // quoted literal text, where '' is an escaped quote too
+                int end = pos + 1;
+                while (end < length) {
+                    char quoted = pattern.charAt(end);
+                    if (quoted == '\'') {
+                        if (end + 1 < length && pattern.charAt(end + 1) == '\'') {
+                            literal.append('\'');
+                            end += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    literal.append(quoted);
+                    end++;
+                }
+                pos = end;
+                continue;
+            }
+            if ((cur >= 'A' && cur <= 'Z') || (cur >= 'a' && cur <= 'z')) {
+                int count = 1;
+                while (pos + count < length && pattern.charAt(pos + count) == cur) {
+                    count++;
+                }
+                Integer rank = rank(cur);
+                if (rank == null) {
+                    return NO_TOKENS;
+                }
+                if (literal.length() > 0) {
+                    tokens.add(new Token(literal.toString()));
+                    literal.setLength(0);
+                }
+                tokens.add(new Token(pattern.substring(pos, pos + count), rank, locale));
+                pos += count - 1;
+                continue;
+            }
+            if (cur == '[' || cur == ']' || cur == '{' || cur == '}' || cur == '#') {
+                return NO_TOKENS;
+            }
+            literal.append(cur);
+        }
+        if (literal.length() > 0) {
+            tokens.add(new Token(literal.toString()));
+        }
+        return tokens.toArray(new Token[0]);
+    }
+
+    /*
+     * The rank of a pattern letter: the most significant field it depends
+     * on, erring towards the less significant for derived fields like the
+     * week-based year or the quarter.
+     */
+    private static Integer rank(char letter) {
+        switch (letter) {
+            case 'G':
+                return 0;
+            case 'u': case 'y':
+                return 1;
+            case 'M': case 'L': case 'Q': case 'q':
+                return 2;
+            case 'd': case 'D': case 'E': case 'e': case 'c': case 'F':
+            case 'W': case 'w': case 'Y': case 'g':
+                return 3;
+            case 'a':
+                return 4;
+            case 'h': case 'K': case 'k': case 'H': case 'B':
+                return 5;
+            case 'm':
+                return 6;
+            case 's':
+                return 7;
+            case 'S': case 'n': case 'N': case 'A':
+                return 8;
+            case 'V': case 'v': case 'z': case 'O': case 'X': case 'x': case 'Z':
+                return ZONE;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * A pattern or a style and the locale of its tokens.
+     */
+    private static final class Key {
+
+        private final String pattern;
+        private final String style;
+        private final Locale locale;
+        private final int hash;
+
+        Key(String pattern, String style, Locale locale) {
+            this.pattern = pattern;
+            this.style = style;
+            this.locale = locale;
+            this.hash = Objects.hash(pattern, style, locale);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hash == other.hash
+                   && Objects.equals(pattern, other.pattern)
+                   && Objects.equals(style, other.style)
+                   && Objects.equals(locale, other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A value without an instant with the time zone of the formatter, which
+     * only answers the zone queries, like a formatter with a zone does.
+     */
+    private static final class ZonedValue implements TemporalAccessor {
+
+        private final TemporalAccessor temporal;
+        private final ZoneId zone;
+
+        ZonedValue(TemporalAccessor temporal, ZoneId zone) {
+            this.temporal = temporal;
+            this.zone = zone;
+        }
+
+        @Override
+        public boolean isSupported(TemporalField field) {
+            return temporal.isSupported(field);
+        }
+
+        @Override
+        public ValueRange range(TemporalField field) {
+            return temporal.range(field);
+        }
+
+        @Override
+        public long getLong(TemporalField field) {
+            return temporal.getLong(field);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <R> R query(TemporalQuery<R> query) {
+            if (query == TemporalQueries.zoneId() || query == TemporalQueries.zone()) {
+                return (R) zone;
+            }
+            return temporal.query(query);
+        }
+    }
+
+    // Releases any resources we may have (or inherit)
+    @Override
+    public void release() {
+        super.release();
+        init();
+    }
+}
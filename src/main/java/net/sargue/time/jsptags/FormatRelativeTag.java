@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * <p>
+ * A handler for &lt;formatRelative&gt; that formats a value relative to the
+ * current instant of the request, like "3 minutes ago" or "in 2 days".
+ * </p>
+ * <p>
+ * Values with an instant are compared to the current instant directly.
+ * A <tt>LocalDateTime</tt> or a <tt>LocalDate</tt> is compared to the
+ * current date and time in the effective time zone, or the system default
+ * zone if none has been specified. The unit strings are those of the
+ * formatting locale.
+ * </p>
+ *
+ * @author Sergi Baila
+ * @see Util#getRequestInstant(jakarta.servlet.jsp.PageContext)
+ */
+@SuppressWarnings("UnusedDeclaration")
+public class FormatRelativeTag extends FormatTag {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public int doEndTag() throws JspException {
+        if (value == null) {
+            if (var != null) {
+                pageContext.removeAttribute(var, scope);
+            }
+            return EVAL_PAGE;
+        }
+
+        ValueType type = ValueType.of(value);
+        if (!type.supported) {
+            throw new JspException(
+                    "value attribute of formatRelative tag must be a TemporalAccessor," +
+                    " Date, Calendar or Long, was: " + value.getClass().getName());
+        }
+        TemporalAccessor temporal = type.toTemporal(value);
+        Instant now = Util.getRequestInstant(pageContext);
+        TimeUnits units = TimeUnits.forLocale(getEffectiveLocale());
+
+        String formatted;
+        if (type.hasInstant(temporal)) {
+            formatted = units.formatSeconds(
+                    temporal.getLong(ChronoField.INSTANT_SECONDS) - now.getEpochSecond());
+        } else if (temporal.isSupported(ChronoField.EPOCH_DAY)) {
+            // local values, compared to the local date and time of now
+            ZoneId zoneId = getEffectiveZoneId();
+            if (zoneId == null) {
+                zoneId = ZoneId.systemDefault();
+            }
+            long localNow = now.getEpochSecond()
+                            + zoneId.getRules().getOffset(now).getTotalSeconds();
+            long days = temporal.getLong(ChronoField.EPOCH_DAY)
+                        - Math.floorDiv(localNow, 86400);
+            if (temporal.isSupported(ChronoField.SECOND_OF_DAY)) {
+                formatted = units.formatSeconds(days * 86400
+                        + temporal.getLong(ChronoField.SECOND_OF_DAY)
+                        - Math.floorMod(localNow, 86400));
+            } else {
+                formatted = units.formatDays(days);
+            }
+        } else {
+            throw new JspException(
+                    "value attribute of formatRelative tag must have a date," +
+                    " was: " + value.getClass().getName());
+        }
+
+        if (var != null) {
+            pageContext.setAttribute(var, formatted, scope);
+        } else {
+            try {
+                pageContext.getOut().print(formatted);
+            } catch (IOException ioe) {
+                throw new JspTagException(ioe.toString(), ioe);
+            }
+        }
+
+        return EVAL_PAGE;
+    }
+}
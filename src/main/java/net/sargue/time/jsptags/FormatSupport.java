@@ -21,9 +21,9 @@ import jakarta.servlet.jsp.JspTagException;
 import jakarta.servlet.jsp.PageContext;
 import jakarta.servlet.jsp.tagext.TagSupport;
 import java.io.IOException;
-import java.text.DateFormat;
-import java.time.*;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
 import java.util.Locale;
 
@@ -49,10 +49,18 @@ public abstract class FormatSupport extends TagSupport {
     protected ZoneId zoneId;
     /** The locale attribute. */
     protected Locale locale;
+    /** The lazy attribute. */
+    protected boolean lazy;
+    /** The memo attribute, as a scope, or 0 if results are not memoized. */
+    protected int memoScope;
+    /** The mode attribute, true for client side formatting. */
+    protected boolean client;
+    /** The fallback attribute. */
+    protected boolean fallback;
     /** The var attribute. */
-    private String var;
+    protected String var;
     /** The scope attribute. */
-    private int scope;
+    protected int scope;
 
     /**
      * Constructor.
@@ -69,6 +77,10 @@ public abstract class FormatSupport extends TagSupport {
         style = null;
         zoneId = null;
         locale = null;
+        lazy = false;
+        memoScope = 0;
+        client = false;
+        fallback = false;
         scope = PageContext.PAGE_SCOPE;
     }
 
@@ -93,56 +105,75 @@ public abstract class FormatSupport extends TagSupport {
             return EVAL_PAGE;
         }
 
-        // Create formatter
-        DateTimeFormatter formatter;
-        if (pattern != null) {
-            formatter = DateTimeFormatter.ofPattern(pattern);
-        } else if (style != null) {
-            formatter = Util.createFormatterForStyle(style);
-        } else {
-            // use a medium date (no time) style by default; same as jstl
-            formatter = Util.createFormatterForStyle("M-");
+        ValueType type = ValueType.of(value);
+        if (!type.supported) {
+            throw new JspException(
+                            "value attribute of format tag must be a TemporalAccessor," +
+                            " Date, Calendar or Long, was: " + value.getClass().getName());
         }
+        TemporalAccessor temporal = type.toTemporal(value);
 
-        // set formatter locale
-        Locale locale = this.locale;
-        if (locale == null) {
-            locale = Util.getFormattingLocale(pageContext, true,
-                                DateFormat.getAvailableLocales());
+        // Create formatter, set its locale and time zone if they are used
+        FormatterSpec spec = formatterSpec();
+        DateTimeFormatter formatter = withLocale(spec);
+        if (spec.usesZone || type.hasInstant(temporal)) {
+            formatter = withZone(formatter, getEffectiveZoneId(), type);
         }
-        if (locale != null) {
-            formatter = formatter.withLocale(locale);
+
+        // leave the formatting to the client if the value has an ISO form
+        if (client) {
+            String iso = type.toIso(temporal);
+            if (iso != null) {
+                output(clientMarkup(iso, spec, formatter, type, temporal));
+                return EVAL_PAGE;
+            }
         }
 
-        // set formatter timezone
-        ZoneId zoneId = this.zoneId;
-        if (zoneId == null) {
-            zoneId = ZoneIdSupport.getZoneId(pageContext, this);
+        // format without the formatter if the type of the value allows it
+        String formatted = type.fastFormat(spec, temporal);
+
+        // look up a memoized result
+        FormatMemo memo = null;
+        FormatMemo.Key memoKey = null;
+        if (formatted == null && memoScope != 0) {
+            memo = FormatMemo.forScope(pageContext, memoScope);
+            memoKey = new FormatMemo.Key(temporal, pattern, style,
+                                         formatter.getLocale(), formatter.getZone());
+            formatted = memo.get(memoKey);
         }
-        if (zoneId != null) {
-            formatter = formatter.withZone(zoneId);
-        } else {
-            if (value instanceof Instant ||
-                            value instanceof LocalDateTime ||
-                            value instanceof OffsetDateTime ||
-                            value instanceof OffsetTime ||
-                            value instanceof LocalTime)
-                // these time objects may need a zone to resolve some patterns
-                // and/or styles, and as there is no zone we revert to the
-                // system default zone
-                formatter = formatter.withZone(ZoneId.systemDefault());
-        }
-
-        // format value
-        String formatted;
-        if (value instanceof TemporalAccessor) {
-            formatted = formatter.format((TemporalAccessor) value);
-        } else {
-            throw new JspException(
-                            "value attribute of format tag must be a TemporalAccessor," +
-                            " was: " + value.getClass().getName());
+
+        if (formatted == null) {
+            // a fixed offset gives the same fields as the region for the
+            // instant, without searching the transitions of the region
+            ZoneId zone = formatter.getZone();
+            if (zone != null && !spec.usesZoneId && type.hasInstant(temporal)) {
+                formatter = formatter.withZone(ZoneOffsetCache.offsetAt(
+                        zone, temporal.getLong(ChronoField.INSTANT_SECONDS)));
+            }
+
+            if (var != null && lazy && memo == null) {
+                // defer formatting until the variable is rendered
+                pageContext.setAttribute(var,
+                        new LazyFormattedValue(formatter, temporal),
+                        scope);
+                return EVAL_PAGE;
+            }
+
+            // format value
+            formatted = formatter.format(temporal);
+            if (memo != null) {
+                memo.put(memoKey, formatted);
+            }
         }
 
+        output(formatted);
+        return EVAL_PAGE;
+    }
+
+    /*
+     * Sets the var or prints the result.
+     */
+    private void output(String formatted) throws JspException {
         if (var != null) {
             pageContext.setAttribute(var, formatted, scope);
         } else {
@@ -152,8 +183,143 @@ public abstract class FormatSupport extends TagSupport {
                 throw new JspTagException(ioe.toString(), ioe);
             }
         }
+    }
 
-        return EVAL_PAGE;
+    /**
+     * Builds the <tt>&lt;time&gt;</tt> element of the client mode, with the
+     * ISO value and the resolved style or pattern, locale and time zone as
+     * data attributes for the bundled <tt>javatime/javatime.js</tt> script.
+     *
+     * @param iso the ISO representation of the value
+     * @param spec the formatter spec
+     * @param formatter the resolved formatter
+     * @param type the type of the value
+     * @param temporal the value
+     * @return the markup
+     */
+    String clientMarkup(String iso, FormatterSpec spec, DateTimeFormatter formatter,
+                        ValueType type, TemporalAccessor temporal) {
+        StringBuilder sb = new StringBuilder(128);
+        sb.append("<time datetime=\"").append(iso).append('"');
+        if (spec.pattern != null) {
+            sb.append(" data-javatime-pattern=\"");
+            Util.escapeXml(spec.pattern, sb);
+        } else {
+            sb.append(" data-javatime-style=\"");
+            Util.escapeXml(style == null ? "M-" : style, sb);
+        }
+        sb.append('"');
+        if (spec.usesLocale || locale != null) {
+            sb.append(" data-javatime-locale=\"")
+              .append(formatter.getLocale().toLanguageTag()).append('"');
+        }
+        ZoneId zone = formatter.getZone();
+        if (zone != null) {
+            sb.append(" data-javatime-zone=\"").append(zone.getId()).append('"');
+        }
+        sb.append('>');
+        if (fallback) {
+            String formatted = type.fastFormat(spec, temporal);
+            Util.escapeXml(formatted != null ? formatted : formatter.format(temporal), sb);
+        }
+        return sb.append("</time>").toString();
+    }
+
+    /**
+     * Creates the formatter specified by the pattern or style attributes,
+     * with the formatting locale already set but no time zone.
+     *
+     * @return the formatter
+     * @throws JspException if the style is invalid
+     */
+    protected DateTimeFormatter createFormatter() throws JspException {
+        return withLocale(formatterSpec());
+    }
+
+    /**
+     * Gets the compiled formatter spec for the pattern or style attributes.
+     *
+     * @return the spec
+     * @throws JspException if the style is invalid
+     */
+    FormatterSpec formatterSpec() throws JspException {
+        if (pattern != null) {
+            return FormatterSpec.ofPattern(pattern);
+        } else if (style != null) {
+            return FormatterSpec.ofStyle(style);
+        } else {
+            // use a medium date (no time) style by default; same as jstl
+            return FormatterSpec.ofStyle("M-");
+        }
+    }
+
+    /**
+     * Sets the formatting locale of the spec formatter. The locale is only
+     * negotiated, setting the response locale, if the output depends on it.
+     *
+     * @param spec the formatter spec
+     * @return the formatter
+     */
+    DateTimeFormatter withLocale(FormatterSpec spec) {
+        DateTimeFormatter formatter = spec.formatter;
+        Locale locale = spec.usesLocale ? getEffectiveLocale() : this.locale;
+        if (locale != null) {
+            formatter = formatter.withLocale(locale);
+        }
+        return formatter;
+    }
+
+    /**
+     * Determines the formatting locale from the locale attribute or the
+     * formatting locale of the page, which is also set as the response
+     * locale.
+     *
+     * @return the locale, or <tt>null</tt> if none could be determined
+     */
+    protected Locale getEffectiveLocale() {
+        Locale locale = this.locale;
+        if (locale == null) {
+            locale = Util.getFormattingLocale(pageContext, true,
+                                Util.availableDateLocales);
+        }
+        return locale;
+    }
+
+    /**
+     * Determines the time zone from the zoneId attribute, an enclosing
+     * &lt;zoneId&gt; tag or the time zone configuration setting.
+     *
+     * @return the time zone, or <tt>null</tt> if none has been specified
+     */
+    protected ZoneId getEffectiveZoneId() {
+        ZoneId zoneId = this.zoneId;
+        if (zoneId == null) {
+            zoneId = ZoneIdSupport.getZoneId(pageContext, this);
+        }
+        return zoneId;
+    }
+
+    /**
+     * Sets the time zone of the formatter used to format values of the given
+     * type.
+     *
+     * @param formatter the formatter
+     * @param zoneId the time zone, may be null
+     * @param type the type of the value to be formatted
+     * @return the formatter with the time zone set, if any is needed
+     */
+    static DateTimeFormatter withZone(DateTimeFormatter formatter, ZoneId zoneId,
+                                      ValueType type) {
+        if (zoneId != null) {
+            return formatter.withZone(zoneId);
+        }
+        if (type.needsDefaultZone) {
+            // these time objects may need a zone to resolve some patterns
+            // and/or styles, and as there is no zone we revert to the
+            // system default zone
+            return formatter.withZone(ZoneId.systemDefault());
+        }
+        return formatter;
     }
 
     // Releases any resources we may have (or inherit)
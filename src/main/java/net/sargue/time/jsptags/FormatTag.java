@@ -62,6 +62,61 @@ import java.util.Locale;
         this.pattern = pattern;
     }
 
+    /**
+     * Sets the lazy attribute. When true and a var is set, the variable
+     * holds a {@link LazyFormattedValue} that formats on first use.
+     *
+     * @param lazy true to defer formatting
+     */
+    public void setLazy(boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    /**
+     * Sets the memo attribute, the scope where formatted results are
+     * memoized.
+     *
+     * @param memo <tt>request</tt>, <tt>application</tt> or null
+     * @throws JspTagException if the scope is not supported
+     */
+    public void setMemo(String memo) throws JspTagException {
+        if (memo == null || memo.isEmpty()) {
+            this.memoScope = 0;
+        } else if ("request".equalsIgnoreCase(memo)
+                   || "application".equalsIgnoreCase(memo)) {
+            this.memoScope = Util.getScope(memo);
+        } else {
+            throw new JspTagException("Invalid memo scope: " + memo);
+        }
+    }
+
+    /**
+     * Sets the mode attribute. In <tt>client</tt> mode the value is written
+     * as a <tt>&lt;time&gt;</tt> element to be formatted by the browser.
+     *
+     * @param mode <tt>server</tt>, <tt>client</tt> or null
+     * @throws JspTagException if the mode is not supported
+     */
+    public void setMode(String mode) throws JspTagException {
+        if (mode == null || mode.isEmpty() || "server".equalsIgnoreCase(mode)) {
+            this.client = false;
+        } else if ("client".equalsIgnoreCase(mode)) {
+            this.client = true;
+        } else {
+            throw new JspTagException("Invalid mode: " + mode);
+        }
+    }
+
+    /**
+     * Sets the fallback attribute. When true, the client mode element
+     * contains the value formatted by the server.
+     *
+     * @param fallback true to format the value on the server too
+     */
+    public void setFallback(boolean fallback) {
+        this.fallback = fallback;
+    }
+
     /**
      * Sets the zone attribute.
      *
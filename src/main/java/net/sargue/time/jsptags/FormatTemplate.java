@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * A compiled format template: literal text with formatted fields, like
+ * <tt>Posted {date:MMM d} at {time:HH:mm}</tt>.
+ * </p>
+ * <p>
+ * A field is a pattern between braces, optionally labelled as
+ * <tt>date:</tt>, <tt>time:</tt> or <tt>datetime:</tt>, or a two character
+ * style labelled as <tt>style:</tt>. Any other text before a colon is part
+ * of the pattern, as in <tt>{HH:mm}</tt>. Patterns cannot contain <tt>}</tt> and
+ * a literal <tt>{</tt> is written as <tt>{{</tt>. Templates are compiled
+ * once and cached.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+final class FormatTemplate {
+
+    /** Maximum number of cached templates. */
+    static final int MAX_TEMPLATES = 256;
+
+    private static final ConcurrentMap<String, FormatTemplate> cache =
+            new ConcurrentHashMap<>();
+
+    /** The literal text around the fields, one more than the fields. */
+    final String[] literals;
+
+    /** The fields. */
+    final FormatterSpec[] fields;
+
+    /** True if any field depends on the locale. */
+    final boolean usesLocale;
+
+    /** True if any field has zone or offset fields. */
+    final boolean usesZone;
+
+    private FormatTemplate(List<String> literals, List<FormatterSpec> fields) {
+        this.literals = literals.toArray(new String[0]);
+        this.fields = fields.toArray(new FormatterSpec[0]);
+        boolean usesLocale = false;
+        boolean usesZone = false;
+        for (FormatterSpec field : this.fields) {
+            usesLocale |= field.usesLocale;
+            usesZone |= field.usesZone;
+        }
+        this.usesLocale = usesLocale;
+        this.usesZone = usesZone;
+    }
+
+    /**
+     * Gets the compiled template.
+     *
+     * @param template the template
+     * @return the compiled template
+     * @throws JspException if the template is invalid
+     */
+    static FormatTemplate of(String template) throws JspException {
+        FormatTemplate compiled = cache.get(template);
+        if (compiled == null) {
+            compiled = compile(template);
+            if (cache.size() < MAX_TEMPLATES) {
+                cache.putIfAbsent(template, compiled);
+            }
+        }
+        return compiled;
+    }
+
+    private static FormatTemplate compile(String template) throws JspException {
+        List<String> literals = new ArrayList<>();
+        List<FormatterSpec> fields = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int length = template.length();
+        for (int pos = 0; pos < length; pos++) {
+            char cur = template.charAt(pos);
+            if (cur != '{') {
+                literal.append(cur);
+            } else if (pos + 1 < length && template.charAt(pos + 1) == '{') {
+                literal.append('{');
+                pos++;
+            } else {
+                int end = template.indexOf('}', pos);
+                if (end < 0) {
+                    throw new JspTagException("Unterminated field in template: " + template);
+                }
+                literals.add(literal.toString());
+                literal.setLength(0);
+                fields.add(compileField(template.substring(pos + 1, end)));
+                pos = end;
+            }
+        }
+        literals.add(literal.toString());
+        return new FormatTemplate(literals, fields);
+    }
+
+    private static FormatterSpec compileField(String field) throws JspException {
+        // the text before a colon is only a label if it is one of the known
+        // labels, otherwise the colon belongs to the pattern, as in {HH:mm}
+        int colon = field.indexOf(':');
+        String label = colon < 0 ? null : field.substring(0, colon);
+        String spec = field;
+        if ("style".equals(label)) {
+            return FormatterSpec.ofStyle(field.substring(colon + 1));
+        }
+        if ("date".equals(label) || "time".equals(label) || "datetime".equals(label)) {
+            spec = field.substring(colon + 1);
+        }
+        try {
+            return FormatterSpec.ofPattern(spec);
+        } catch (IllegalArgumentException e) {
+            throw new JspTagException("Invalid pattern in template: " + spec, e);
+        }
+    }
+}
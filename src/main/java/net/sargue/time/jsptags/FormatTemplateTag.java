@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
+
+/**
+ * <p>
+ * A handler for &lt;formatTemplate&gt; that formats a value with several
+ * fields in a text, like <tt>Posted {date:MMM d} at {time:HH:mm}</tt>.
+ * </p>
+ * <p>
+ * The template is compiled once (see {@link FormatTemplate}). For each value
+ * the locale and the time zone are resolved once for all the fields, a value
+ * with an instant is converted to the time zone once, and all the segments
+ * are rendered in one pass.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+@SuppressWarnings("UnusedDeclaration")
+public class FormatTemplateTag extends FormatTag {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The template attribute. */
+    private String template;
+
+    /**
+     * Constructor.
+     */
+    public FormatTemplateTag() {
+        super();
+        init();
+    }
+
+    private void init() {
+        template = null;
+    }
+
+    /**
+     * Sets the template attribute.
+     *
+     * @param template the template
+     */
+    public void setTemplate(String template) {
+        this.template = template;
+    }
+
+    @Override
+    public int doEndTag() throws JspException {
+        if (value == null) {
+            if (var != null) {
+                pageContext.removeAttribute(var, scope);
+            }
+            return EVAL_PAGE;
+        }
+        if (template == null) {
+            throw new JspTagException("formatTemplate tag requires the template attribute");
+        }
+
+        ValueType type = ValueType.of(value);
+        if (!type.supported) {
+            throw new JspException(
+                    "value attribute of formatTemplate tag must be a TemporalAccessor," +
+                    " Date, Calendar or Long, was: " + value.getClass().getName());
+        }
+        TemporalAccessor temporal = type.toTemporal(value);
+        FormatTemplate compiled = FormatTemplate.of(template);
+
+        // resolve the locale and the time zone once for all the fields
+        Locale locale = compiled.usesLocale ? getEffectiveLocale() : this.locale;
+        ZoneId zoneId = null;
+        boolean hasInstant = type.hasInstant(temporal);
+        if (compiled.usesZone || hasInstant) {
+            zoneId = getEffectiveZoneId();
+            if (zoneId == null && type.needsDefaultZone) {
+                zoneId = ZoneId.systemDefault();
+            }
+        }
+        if (hasInstant && zoneId != null) {
+            // convert once instead of in each formatter
+            temporal = ZonedDateTime.ofInstant(
+                    Instant.ofEpochSecond(temporal.getLong(ChronoField.INSTANT_SECONDS),
+                                          temporal.get(ChronoField.NANO_OF_SECOND)),
+                    zoneId);
+            type = ValueType.of(temporal);
+            zoneId = null;
+        }
+
+        try {
+            if (var != null) {
+                StringBuilder sb = new StringBuilder(template.length() + 16);
+                render(sb, compiled, temporal, type, locale, zoneId);
+                pageContext.setAttribute(var, sb.toString(), scope);
+            } else {
+                render(pageContext.getOut(), compiled, temporal, type, locale, zoneId);
+            }
+        } catch (IOException ioe) {
+            throw new JspTagException(ioe.toString(), ioe);
+        }
+
+        return EVAL_PAGE;
+    }
+
+    private static void render(Appendable out, FormatTemplate compiled,
+                               TemporalAccessor temporal, ValueType type,
+                               Locale locale, ZoneId zoneId) throws IOException {
+        FormatterSpec[] fields = compiled.fields;
+        for (int i = 0; i < fields.length; i++) {
+            out.append(compiled.literals[i]);
+            FormatterSpec field = fields[i];
+            String fast = type.fastFormat(field, temporal);
+            if (fast != null) {
+                out.append(fast);
+                continue;
+            }
+            DateTimeFormatter formatter = field.formatter;
+            if (locale != null) {
+                formatter = formatter.withLocale(locale);
+            }
+            if (zoneId != null) {
+                formatter = formatter.withZone(zoneId);
+            }
+            formatter.formatTo(temporal, out);
+        }
+        out.append(compiled.literals[fields.length]);
+    }
+
+    // Releases any resources we may have (or inherit)
+    @Override
+    public void release() {
+        super.release();
+        init();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * A compiled formatter for a pattern or style, along with what it needs to
+ * produce its output.
+ * </p>
+ * <p>
+ * The pattern is analysed once to find out if it uses localized text or
+ * week-based fields (which depend on the locale) and zone or offset fields.
+ * The tags use this to skip the locale negotiation and the time zone lookup
+ * when they cannot affect the result. Specs are cached, so formatters are
+ * not compiled again for each tag invocation.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+final class FormatterSpec {
+
+    /** Maximum number of cached patterns. */
+    static final int MAX_PATTERNS = 512;
+
+    /** Not a fixed-width ISO pattern. */
+    static final int ISO_NONE = 0;
+    /** The <tt>yyyy-MM-dd</tt> pattern or its <tt>uuuu</tt> variant. */
+    static final int ISO_DATE = 1;
+    /** The <tt>yyyy-MM-dd'T'HH:mm:ss</tt> pattern or its <tt>uuuu</tt> variant. */
+    static final int ISO_DATE_TIME = 2;
+
+    private static final ConcurrentMap<String, FormatterSpec> patterns =
+            new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<String, FormatterSpec> styles =
+            new ConcurrentHashMap<>();
+
+    /** The formatter, without locale or zone. */
+    final DateTimeFormatter formatter;
+
+    /** True if the output may depend on the locale. */
+    final boolean usesLocale;
+
+    /** True if the output includes zone or offset fields. */
+    final boolean usesZone;
+
+    /** True if the output includes fields that need a region zone id. */
+    final boolean usesZoneId;
+
+    /** The pattern, or null for styles. */
+    final String pattern;
+
+    /** The kind of fixed-width ISO pattern, if it is one. */
+    final int iso;
+
+    private FormatterSpec(DateTimeFormatter formatter, String pattern,
+                          boolean usesLocale, boolean usesZone, boolean usesZoneId) {
+        this.formatter = formatter;
+        this.pattern = pattern;
+        if (IsoDateParser.isLocalDatePattern(pattern)) {
+            this.iso = ISO_DATE;
+        } else if (IsoDateParser.isLocalDateTimePattern(pattern)) {
+            this.iso = ISO_DATE_TIME;
+        } else {
+            this.iso = ISO_NONE;
+        }
+        this.usesLocale = usesLocale;
+        this.usesZone = usesZone;
+        this.usesZoneId = usesZoneId;
+    }
+
+    /**
+     * Gets the spec for a pattern.
+     *
+     * @param pattern the pattern
+     * @return the spec
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    static FormatterSpec ofPattern(String pattern) {
+        FormatterSpec spec = patterns.get(pattern);
+        if (spec == null) {
+            spec = analyse(pattern);
+            if (patterns.size() < MAX_PATTERNS) {
+                patterns.putIfAbsent(pattern, spec);
+            }
+        }
+        return spec;
+    }
+
+    /**
+     * Gets the spec for a two character style.
+     *
+     * @param style the style
+     * @return the spec
+     * @throws JspException if the style is invalid
+     */
+    static FormatterSpec ofStyle(String style) throws JspException {
+        FormatterSpec spec = style == null ? null : styles.get(style);
+        if (spec == null) {
+            DateTimeFormatter formatter = Util.createFormatterForStyle(style);
+            // long and full time styles print the zone name
+            char timeStyle = style.charAt(1);
+            boolean zoned = timeStyle == 'L' || timeStyle == 'F';
+            spec = new FormatterSpec(formatter, null, true, zoned, zoned);
+            styles.putIfAbsent(style, spec);
+        }
+        return spec;
+    }
+
+    /*
+     * Compiles the pattern and scans its letters, skipping quoted literals.
+     */
+    private static FormatterSpec analyse(String pattern) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+        boolean usesLocale = false;
+        boolean usesZone = false;
+        boolean usesZoneId = false;
+        int length = pattern.length();
+        for (int pos = 0; pos < length; pos++) {
+            char cur = pattern.charAt(pos);
+            if (cur == '\'') {
+                // literal text, '' is an escaped quote
+                int end = pattern.indexOf('\'', pos + 1);
+                pos = end < 0 ? length : end;
+                continue;
+            }
+            if (!((cur >= 'A' && cur <= 'Z') || (cur >= 'a' && cur <= 'z'))) {
+                continue;
+            }
+            int count = 1;
+            while (pos + 1 < length && pattern.charAt(pos + 1) == cur) {
+                pos++;
+                count++;
+            }
+            switch (cur) {
+                case 'u': case 'y': case 'D': case 'd': case 'g': case 'F':
+                case 'h': case 'K': case 'k': case 'H': case 'm': case 's':
+                case 'S': case 'A': case 'n': case 'N':
+                    // numeric fields
+                    break;
+                case 'M': case 'L': case 'Q': case 'q':
+                    // numeric up to two letters, text otherwise
+                    usesLocale |= count >= 3;
+                    break;
+                case 'V':
+                    usesZone = true;
+                    usesZoneId = true;
+                    break;
+                case 'v': case 'z':
+                    usesLocale = true;
+                    usesZone = true;
+                    usesZoneId = true;
+                    break;
+                case 'X': case 'x':
+                    usesZone = true;
+                    break;
+                case 'Z':
+                    // four letters is the localized offset
+                    usesLocale |= count == 4;
+                    usesZone = true;
+                    break;
+                case 'O':
+                    usesLocale = true;
+                    usesZone = true;
+                    break;
+                default:
+                    // text (G, E, a, B, ...), week-based fields (Y, w, W,
+                    // e, c) or letters unknown to this analysis
+                    usesLocale = true;
+                    break;
+            }
+        }
+        return new FormatterSpec(formatter, pattern, usesLocale, usesZone, usesZoneId);
+    }
+}
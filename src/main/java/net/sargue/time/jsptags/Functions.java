@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * <p>
+ * The EL functions of the library.
+ * </p>
+ * <p>
+ * Functions have no access to the page, so the locale is an argument instead
+ * of being negotiated. Use the &lt;displayNames&gt; tag to get the names in
+ * the negotiated locale.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+public final class Functions {
+
+    private Functions() {
+    }
+
+    /**
+     * Gets the localized month names, from January to December.
+     *
+     * @param style the text style, like <tt>full</tt> or <tt>short</tt>
+     * @param locale a <tt>Locale</tt>, a <tt>String</tt> or <tt>null</tt> for
+     *               the default locale
+     * @return the names, an unmodifiable list
+     */
+    public static List<String> monthNames(String style, Object locale) {
+        return DisplayNames.forLocale(toLocale(locale))
+                           .months(DisplayNames.parseStyle(style));
+    }
+
+    /**
+     * Gets the localized day of week names, starting with the first day of
+     * the week of the locale.
+     *
+     * @param style the text style, like <tt>full</tt> or <tt>short</tt>
+     * @param locale a <tt>Locale</tt>, a <tt>String</tt> or <tt>null</tt> for
+     *               the default locale
+     * @return the names, an unmodifiable list
+     */
+    public static List<String> weekdayNames(String style, Object locale) {
+        return DisplayNames.forLocale(toLocale(locale))
+                           .weekdays(DisplayNames.parseStyle(style));
+    }
+
+    private static Locale toLocale(Object locale) {
+        if (locale instanceof Locale) {
+            return (Locale) locale;
+        }
+        return locale == null ? null : Util.parseLocale(locale.toString());
+    }
+}
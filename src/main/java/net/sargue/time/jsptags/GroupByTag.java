@@ -0,0 +1,345 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
+import jakarta.servlet.jsp.jstl.core.LoopTagSupport;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * <p>
+ * A handler for &lt;groupBy&gt; that iterates the groups of consecutive
+ * values in the same day, week, month or year, like the day headers of an
+ * activity feed. The values are expected to be sorted.
+ * </p>
+ * <p>
+ * Each value is converted to the time zone once, as an epoch day number, and
+ * the group boundaries are found comparing numbers, without formatting the
+ * values. The header of each group is formatted once, from its first day.
+ * Each group is a {@link TemporalGroup}.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+@SuppressWarnings("UnusedDeclaration")
+public class GroupByTag extends LoopTagSupport {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int SECONDS_PER_DAY = 86400;
+
+    /** The items attribute. */
+    private Object items;
+    /** The unit attribute. */
+    private ChronoUnit unit;
+    /** The pattern attribute. */
+    private String pattern;
+    /** The style attribute. */
+    private String style;
+    /** The locale attribute. */
+    private Locale locale;
+    /** The zoneId attribute. */
+    private ZoneId zoneId;
+
+    /** The groups. */
+    private List<TemporalGroup> groups;
+    /** The index of the next group. */
+    private int next;
+
+    /**
+     * Constructor.
+     */
+    public GroupByTag() {
+        super();
+        init();
+    }
+
+    private void init() {
+        items = null;
+        unit = ChronoUnit.DAYS;
+        pattern = null;
+        style = null;
+        locale = null;
+        zoneId = null;
+        groups = null;
+    }
+
+    /**
+     * Sets the items attribute.
+     *
+     * @param items an array or a collection of values
+     */
+    public void setItems(Object items) {
+        this.items = items;
+    }
+
+    /**
+     * Sets the unit attribute.
+     *
+     * @param unit <tt>DAYS</tt>, <tt>WEEKS</tt>, <tt>MONTHS</tt> or
+     *             <tt>YEARS</tt>
+     * @throws JspTagException if the unit is not supported
+     */
+    public void setUnit(String unit) throws JspTagException {
+        if (unit == null || unit.isEmpty()) {
+            this.unit = ChronoUnit.DAYS;
+            return;
+        }
+        switch (unit.toUpperCase(Locale.ROOT)) {
+            case "DAYS":
+                this.unit = ChronoUnit.DAYS;
+                break;
+            case "WEEKS":
+                this.unit = ChronoUnit.WEEKS;
+                break;
+            case "MONTHS":
+                this.unit = ChronoUnit.MONTHS;
+                break;
+            case "YEARS":
+                this.unit = ChronoUnit.YEARS;
+                break;
+            default:
+                throw new JspTagException("Invalid unit: " + unit);
+        }
+    }
+
+    public void setPattern(String pattern) {
+        this.pattern = pattern;
+    }
+
+    public void setStyle(String style) {
+        this.style = style;
+    }
+
+    public void setLocale(Object loc) throws JspTagException {
+        if (loc == null) {
+            this.locale = null;
+        } else if (loc instanceof Locale) {
+            this.locale = (Locale) loc;
+        } else if (loc instanceof String) {
+            this.locale = Util.parseLocale((String) loc);
+        } else
+            throw new JspTagException("Can only accept Locale or String objects.");
+    }
+
+    public void setZoneId(Object dtz) throws JspTagException {
+        if (dtz == null || (dtz instanceof String && ((String) dtz).isEmpty())) {
+            this.zoneId = null;
+        } else if (dtz instanceof ZoneId) {
+            this.zoneId = (ZoneId) dtz;
+        } else if (dtz instanceof String) {
+            try {
+                this.zoneId = ZoneId.of((String) dtz);
+            } catch (IllegalArgumentException iae) {
+                throw new JspTagException("Incorrect Zone: " + dtz);
+            }
+        } else
+            throw new JspTagException("Can only accept ZoneId or String objects.");
+    }
+
+    @Override
+    protected void prepare() throws JspTagException {
+        Object[] values;
+        if (items == null) {
+            values = new Object[0];
+        } else if (items instanceof Object[]) {
+            values = (Object[]) items;
+        } else if (items instanceof Collection) {
+            values = ((Collection<?>) items).toArray();
+        } else {
+            throw new JspTagException(
+                    "items attribute of groupBy tag must be an array or a Collection," +
+                    " was: " + items.getClass().getName());
+        }
+
+        // resolve everything once for all the groups
+        FormatterSpec spec = headerSpec();
+        Locale locale = this.locale;
+        if (locale == null && (spec.usesLocale || unit == ChronoUnit.WEEKS)) {
+            locale = Util.getFormattingLocale(pageContext, true,
+                                              Util.availableDateLocales);
+        }
+        DateTimeFormatter formatter = spec.formatter;
+        if (spec.usesLocale && locale != null) {
+            formatter = formatter.withLocale(locale);
+        }
+        int firstDayOfWeek = unit == ChronoUnit.WEEKS
+                ? DisplayNames.forLocale(locale).firstDayOfWeek.getValue()
+                : 0;
+        ZoneId zone = null;
+
+        groups = new ArrayList<>();
+        List<Object> group = null;
+        long key = 0;
+        LocalDate start = null;
+        for (Object value : values) {
+            if (value == null) {
+                continue;
+            }
+            ValueType type = ValueType.of(value);
+            if (!type.supported) {
+                throw new JspTagException(
+                        "items of groupBy tag must be TemporalAccessor, Date, Calendar" +
+                        " or Long, was: " + value.getClass().getName());
+            }
+            TemporalAccessor temporal = type.toTemporal(value);
+            long epochDay;
+            if (type.hasInstant(temporal)) {
+                if (zone == null) {
+                    zone = effectiveZoneId();
+                }
+                long seconds = temporal.getLong(ChronoField.INSTANT_SECONDS);
+                int offset = ZoneOffsetCache.offsetAt(zone, seconds).getTotalSeconds();
+                epochDay = Math.floorDiv(seconds + offset, SECONDS_PER_DAY);
+            } else if (temporal.isSupported(ChronoField.EPOCH_DAY)) {
+                epochDay = temporal.getLong(ChronoField.EPOCH_DAY);
+            } else {
+                throw new JspTagException(
+                        "items of groupBy tag must have a date, was: " +
+                        value.getClass().getName());
+            }
+
+            long valueKey = key(epochDay, firstDayOfWeek);
+            if (group == null || valueKey != key) {
+                if (group != null) {
+                    groups.add(group(start, group, spec, formatter));
+                }
+                group = new ArrayList<>();
+                key = valueKey;
+                start = start(epochDay, firstDayOfWeek);
+            }
+            group.add(value);
+        }
+        if (group != null) {
+            groups.add(group(start, group, spec, formatter));
+        }
+        next = 0;
+    }
+
+    @Override
+    protected boolean hasNext() {
+        return next < groups.size();
+    }
+
+    @Override
+    protected Object next() {
+        return groups.get(next++);
+    }
+
+    /*
+     * A number identifying the group of an epoch day.
+     */
+    private long key(long epochDay, int firstDayOfWeek) {
+        switch (unit) {
+            case DAYS:
+                return epochDay;
+            case WEEKS:
+                return epochDay - daysFromWeekStart(epochDay, firstDayOfWeek);
+            default:
+                LocalDate date = LocalDate.ofEpochDay(epochDay);
+                return unit == ChronoUnit.MONTHS
+                        ? date.getYear() * 12L + date.getMonthValue()
+                        : date.getYear();
+        }
+    }
+
+    /*
+     * The first day of the group of an epoch day.
+     */
+    private LocalDate start(long epochDay, int firstDayOfWeek) {
+        switch (unit) {
+            case DAYS:
+                return LocalDate.ofEpochDay(epochDay);
+            case WEEKS:
+                return LocalDate.ofEpochDay(epochDay - daysFromWeekStart(epochDay, firstDayOfWeek));
+            case MONTHS:
+                return LocalDate.ofEpochDay(epochDay).withDayOfMonth(1);
+            default:
+                return LocalDate.ofEpochDay(epochDay).withDayOfYear(1);
+        }
+    }
+
+    /*
+     * Epoch day 0 is a Thursday, day of week 4.
+     */
+    private static int daysFromWeekStart(long epochDay, int firstDayOfWeek) {
+        return (int) Math.floorMod(epochDay + 3 - (firstDayOfWeek - 1), 7L);
+    }
+
+    private static TemporalGroup group(LocalDate start, List<Object> items,
+                                       FormatterSpec spec, DateTimeFormatter formatter) {
+        String header = ValueType.of(start).fastFormat(spec, start);
+        if (header == null) {
+            header = formatter.format(start);
+        }
+        return new TemporalGroup(start, header, items);
+    }
+
+    /*
+     * The header pattern or style, by default depending on the unit.
+     */
+    private FormatterSpec headerSpec() throws JspTagException {
+        try {
+            if (pattern != null) {
+                return FormatterSpec.ofPattern(pattern);
+            }
+            if (style != null) {
+                return FormatterSpec.ofStyle(style);
+            }
+            switch (unit) {
+                case MONTHS:
+                    return FormatterSpec.ofPattern("LLLL yyyy");
+                case YEARS:
+                    return FormatterSpec.ofPattern("yyyy");
+                default:
+                    return FormatterSpec.ofStyle("M-");
+            }
+        } catch (JspTagException e) {
+            throw e;
+        } catch (JspException | IllegalArgumentException e) {
+            throw new JspTagException(e.getMessage(), e);
+        }
+    }
+
+    private ZoneId effectiveZoneId() {
+        ZoneId zoneId = this.zoneId;
+        if (zoneId == null) {
+            zoneId = ZoneIdSupport.getZoneId(pageContext, this);
+            if (zoneId == null) {
+                zoneId = ZoneId.systemDefault();
+            }
+        }
+        return zoneId;
+    }
+
+    // Releases any resources we may have (or inherit)
+    @Override
+    public void release() {
+        super.release();
+        init();
+    }
+}
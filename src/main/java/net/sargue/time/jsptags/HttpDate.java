@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * <p>
+ * Formats HTTP dates, like <tt>Fri, 06 Nov 2015 09:45:33 GMT</tt>.
+ * </p>
+ * <p>
+ * HTTP dates have a precision of one second and the headers of the
+ * requests served in the same second usually have the same date, so the last
+ * formatted second is remembered and reused.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+final class HttpDate {
+
+    /**
+     * The preferred format of RFC 7231, the fixed length variant of the
+     * RFC 1123 format, always in GMT.
+     */
+    static final DateTimeFormatter FORMATTER =
+            FormatterSpec.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'").formatter
+                         .withLocale(Locale.US)
+                         .withZone(ZoneOffset.UTC);
+
+    /** The last formatted second. */
+    private static volatile HttpDate last = new HttpDate(Long.MIN_VALUE, null);
+
+    private final long epochSecond;
+    private final String formatted;
+
+    private HttpDate(long epochSecond, String formatted) {
+        this.epochSecond = epochSecond;
+        this.formatted = formatted;
+    }
+
+    /**
+     * Formats an instant as an HTTP date, truncated to the second.
+     *
+     * @param epochSecond the seconds from the epoch
+     * @return the HTTP date
+     */
+    static String format(long epochSecond) {
+        HttpDate date = last;
+        if (date.epochSecond != epochSecond) {
+            date = new HttpDate(epochSecond,
+                                FORMATTER.format(Instant.ofEpochSecond(epochSecond)));
+            last = date;
+        }
+        return date.formatted;
+    }
+}
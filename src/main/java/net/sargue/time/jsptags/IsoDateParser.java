@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+/**
+ * <p>
+ * Fast parser for fixed-width ISO dates (<tt>yyyy-MM-dd</tt>) and date-times
+ * (<tt>yyyy-MM-dd'T'HH:mm:ss</tt>).
+ * </p>
+ * <p>
+ * Digits and separators are read at fixed offsets and validated without
+ * branching on each character. Only plain valid values are accepted; any
+ * other input (wrong length, out of range fields, dates that the
+ * <tt>SMART</tt> resolver would adjust, ...) is rejected so the caller can
+ * fall back to the <tt>DateTimeFormatter</tt>, keeping the exact semantics
+ * and error reporting of the parse tags.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+final class IsoDateParser {
+
+    /** Result returned when the input is not accepted by the fast path. */
+    static final long INVALID = Long.MIN_VALUE;
+
+    private static final int DAYS_PER_CYCLE = 146097;
+    private static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+
+    private IsoDateParser() {
+    }
+
+    /**
+     * Checks if the pattern is a fixed-width ISO local date pattern.
+     *
+     * @param pattern the pattern
+     * @return true for <tt>yyyy-MM-dd</tt> or <tt>uuuu-MM-dd</tt>
+     */
+    static boolean isLocalDatePattern(String pattern) {
+        return "yyyy-MM-dd".equals(pattern) || "uuuu-MM-dd".equals(pattern);
+    }
+
+    /**
+     * Checks if the pattern is a fixed-width ISO local date-time pattern.
+     *
+     * @param pattern the pattern
+     * @return true for <tt>yyyy-MM-dd'T'HH:mm:ss</tt> or the <tt>uuuu</tt>
+     * variant
+     */
+    static boolean isLocalDateTimePattern(String pattern) {
+        return "yyyy-MM-dd'T'HH:mm:ss".equals(pattern)
+               || "uuuu-MM-dd'T'HH:mm:ss".equals(pattern);
+    }
+
+    /**
+     * Parses a <tt>yyyy-MM-dd</tt> date.
+     *
+     * @param s the input
+     * @return the epoch day, or {@link #INVALID}
+     */
+    static long parseEpochDay(CharSequence s) {
+        if (s.length() != 10) {
+            return INVALID;
+        }
+        return epochDay(s);
+    }
+
+    /**
+     * Parses a <tt>yyyy-MM-ddTHH:mm:ss</tt> date-time.
+     *
+     * @param s the input
+     * @return the epoch second at UTC, or {@link #INVALID}
+     */
+    static long parseEpochSecond(CharSequence s) {
+        if (s.length() != 19) {
+            return INVALID;
+        }
+        long epochDay = epochDay(s);
+        if (epochDay == INVALID) {
+            return INVALID;
+        }
+        int h0 = s.charAt(11) - '0', h1 = s.charAt(12) - '0';
+        int m0 = s.charAt(14) - '0', m1 = s.charAt(15) - '0';
+        int s0 = s.charAt(17) - '0', s1 = s.charAt(18) - '0';
+        int bad = notDigit(h0) | notDigit(h1) | notDigit(m0) | notDigit(m1)
+                  | notDigit(s0) | notDigit(s1)
+                  | (s.charAt(10) ^ 'T') | (s.charAt(13) ^ ':') | (s.charAt(16) ^ ':');
+        if (bad != 0) {
+            return INVALID;
+        }
+        int hour = h0 * 10 + h1;
+        int minute = m0 * 10 + m1;
+        int second = s0 * 10 + s1;
+        if (hour > 23 || minute > 59 || second > 59) {
+            return INVALID;
+        }
+        return epochDay * 86400 + hour * 3600 + minute * 60 + second;
+    }
+
+    /*
+     * Parses the yyyy-MM-dd prefix of the input, already checked for length.
+     */
+    private static long epochDay(CharSequence s) {
+        int y0 = s.charAt(0) - '0', y1 = s.charAt(1) - '0';
+        int y2 = s.charAt(2) - '0', y3 = s.charAt(3) - '0';
+        int mo0 = s.charAt(5) - '0', mo1 = s.charAt(6) - '0';
+        int d0 = s.charAt(8) - '0', d1 = s.charAt(9) - '0';
+        int bad = notDigit(y0) | notDigit(y1) | notDigit(y2) | notDigit(y3)
+                  | notDigit(mo0) | notDigit(mo1) | notDigit(d0) | notDigit(d1)
+                  | (s.charAt(4) ^ '-') | (s.charAt(7) ^ '-');
+        if (bad != 0) {
+            return INVALID;
+        }
+        int year = y0 * 1000 + y1 * 100 + y2 * 10 + y3;
+        int month = mo0 * 10 + mo1;
+        int day = d0 * 10 + d1;
+        if (year == 0 || month < 1 || month > 12 || day < 1
+            || day > lengthOfMonth(year, month)) {
+            return INVALID;
+        }
+        return toEpochDay(year, month, day);
+    }
+
+    /*
+     * Returns non zero if the value is not in the 0-9 range.
+     */
+    private static int notDigit(int d) {
+        return (d | (9 - d)) >>> 31;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeap(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean isLeap(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /*
+     * Same algorithm as LocalDate.toEpochDay(), for positive years.
+     */
+    private static long toEpochDay(int year, int month, int day) {
+        long y = year;
+        long total = 365 * y + (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        total += ((367 * month - 362) / 12);
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeap(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import java.io.Serializable;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * <p>
+ * A formatted value whose formatting is deferred until it is first
+ * rendered, used by &lt;format lazy="true"&gt;.
+ * </p>
+ * <p>
+ * It keeps the formatter already resolved by the tag (locale and time zone
+ * included) and the value, formats on the first call to {@link #toString()}
+ * and remembers the result. It is serialized as a plain <tt>String</tt>.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+public final class LazyFormattedValue implements CharSequence, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient DateTimeFormatter formatter;
+    private final transient TemporalAccessor value;
+    private transient String formatted;
+
+    /**
+     * Constructor.
+     *
+     * @param formatter the resolved formatter
+     * @param value the value to format
+     */
+    public LazyFormattedValue(DateTimeFormatter formatter, TemporalAccessor value) {
+        this.formatter = formatter;
+        this.value = value;
+    }
+
+    /**
+     * Gets the value to format.
+     *
+     * @return the value
+     */
+    public TemporalAccessor getValue() {
+        return value;
+    }
+
+    /**
+     * Checks if the value has already been formatted.
+     *
+     * @return true if the value has been formatted
+     */
+    public boolean isFormatted() {
+        return formatted != null;
+    }
+
+    @Override
+    public String toString() {
+        // formatting twice on a race is harmless, the result is the same
+        String s = formatted;
+        if (s == null) {
+            s = formatter.format(value);
+            formatted = s;
+        }
+        return s;
+    }
+
+    @Override
+    public int length() {
+        return toString().length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return toString().charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof LazyFormattedValue
+               && toString().equals(obj.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+
+    private Object writeReplace() {
+        return toString();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * A cell of the month view iterated by &lt;monthGrid&gt;, with everything a
+ * calendar needs already computed.
+ *
+ * @author Sergi Baila
+ */
+public final class MonthGridCell {
+
+    private final LocalDate date;
+    private final String label;
+    private final boolean inMonth;
+    private final boolean today;
+    private final boolean weekend;
+    private final boolean weekStart;
+    private final boolean weekEnd;
+
+    MonthGridCell(LocalDate date, String label, boolean inMonth, boolean today,
+                  boolean weekend, boolean weekStart, boolean weekEnd) {
+        this.date = date;
+        this.label = label;
+        this.inMonth = inMonth;
+        this.today = today;
+        this.weekend = weekend;
+        this.weekStart = weekStart;
+        this.weekEnd = weekEnd;
+    }
+
+    /**
+     * @return the date of the cell
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * @return the day of the month
+     */
+    public int getDay() {
+        return date.getDayOfMonth();
+    }
+
+    /**
+     * @return the day of the week
+     */
+    public DayOfWeek getDayOfWeek() {
+        return date.getDayOfWeek();
+    }
+
+    /**
+     * @return the date formatted with the pattern or style of the tag
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * @return true if the date belongs to the month of the grid, false if it
+     * belongs to the previous or the next month
+     */
+    public boolean isInMonth() {
+        return inMonth;
+    }
+
+    /**
+     * @return true if the date is the current date
+     */
+    public boolean isToday() {
+        return today;
+    }
+
+    /**
+     * @return true if the date is a weekend day in the region of the locale
+     */
+    public boolean isWeekend() {
+        return weekend;
+    }
+
+    /**
+     * @return true if the cell starts a row of the grid
+     */
+    public boolean isWeekStart() {
+        return weekStart;
+    }
+
+    /**
+     * @return true if the cell ends a row of the grid
+     */
+    public boolean isWeekEnd() {
+        return weekEnd;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
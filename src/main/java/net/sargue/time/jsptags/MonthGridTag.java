@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
+import jakarta.servlet.jsp.jstl.core.LoopTagSupport;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
+
+/**
+ * <p>
+ * A handler for &lt;monthGrid&gt; that iterates the cells of a month view,
+ * whole weeks starting with the first day of the week of the locale, from
+ * the week of the first day of the month to the week of the last one. A
+ * month that fits in four weeks gets the next week too, so every grid has
+ * five or six rows. The weekend flag of the cells follows the weekend of the
+ * region of the locale.
+ * </p>
+ * <p>
+ * All the cells are computed in one pass before the first iteration: the
+ * locale, the time zone of the current date and the label formatter are
+ * resolved once, and each cell is a {@link MonthGridCell} with its date,
+ * flags and label.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+@SuppressWarnings("UnusedDeclaration")
+public class MonthGridTag extends LoopTagSupport {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The least number of cells, five weeks. */
+    private static final int MIN_CELLS = 5 * 7;
+
+    /** The labels of the default pattern, indexed by day of month. */
+    private static final String[] DAY_LABELS = new String[32];
+
+    static {
+        for (int i = 1; i < DAY_LABELS.length; i++) {
+            DAY_LABELS[i] = Integer.toString(i);
+        }
+    }
+
+    /** The yearMonth attribute. */
+    private Object yearMonth;
+    /** The pattern attribute. */
+    private String pattern;
+    /** The style attribute. */
+    private String style;
+    /** The locale attribute. */
+    private Locale locale;
+    /** The zoneId attribute. */
+    private ZoneId zoneId;
+
+    /** The cells of the grid. */
+    private MonthGridCell[] cells;
+    /** The index of the next cell. */
+    private int next;
+
+    /**
+     * Constructor.
+     */
+    public MonthGridTag() {
+        super();
+        init();
+    }
+
+    private void init() {
+        yearMonth = null;
+        pattern = null;
+        style = null;
+        locale = null;
+        zoneId = null;
+        cells = null;
+    }
+
+    /**
+     * Sets the yearMonth attribute.
+     *
+     * @param yearMonth a <tt>YearMonth</tt>, a <tt>String</tt> like
+     *                  <tt>2026-03</tt> or any temporal with a year and a month
+     */
+    public void setYearMonth(Object yearMonth) {
+        this.yearMonth = yearMonth;
+    }
+
+    public void setPattern(String pattern) {
+        this.pattern = pattern;
+    }
+
+    public void setStyle(String style) {
+        this.style = style;
+    }
+
+    public void setLocale(Object loc) throws JspTagException {
+        if (loc == null) {
+            this.locale = null;
+        } else if (loc instanceof Locale) {
+            this.locale = (Locale) loc;
+        } else if (loc instanceof String) {
+            this.locale = Util.parseLocale((String) loc);
+        } else
+            throw new JspTagException("Can only accept Locale or String objects.");
+    }
+
+    public void setZoneId(Object dtz) throws JspTagException {
+        if (dtz == null || (dtz instanceof String && ((String) dtz).isEmpty())) {
+            this.zoneId = null;
+        } else if (dtz instanceof ZoneId) {
+            this.zoneId = (ZoneId) dtz;
+        } else if (dtz instanceof String) {
+            try {
+                this.zoneId = ZoneId.of((String) dtz);
+            } catch (IllegalArgumentException iae) {
+                throw new JspTagException("Incorrect Zone: " + dtz);
+            }
+        } else
+            throw new JspTagException("Can only accept ZoneId or String objects.");
+    }
+
+    @Override
+    protected void prepare() throws JspTagException {
+        YearMonth month = toYearMonth(yearMonth);
+
+        // resolve everything once for all the cells
+        Locale locale = this.locale;
+        if (locale == null) {
+            locale = Util.getFormattingLocale(pageContext, true,
+                                              Util.availableDateLocales);
+        }
+        ZoneId zoneId = this.zoneId;
+        if (zoneId == null) {
+            zoneId = ZoneIdSupport.getZoneId(pageContext, this);
+            if (zoneId == null) {
+                zoneId = ZoneId.systemDefault();
+            }
+        }
+        LocalDate today = LocalDate.ofInstant(Util.getRequestInstant(pageContext), zoneId);
+        DisplayNames names = DisplayNames.forLocale(locale);
+        DayOfWeek firstDayOfWeek = names.firstDayOfWeek;
+        FormatterSpec spec = labelSpec();
+        DateTimeFormatter formatter = null;
+        if (spec != null) {
+            formatter = spec.formatter;
+            if (spec.usesLocale && locale != null) {
+                formatter = formatter.withLocale(locale);
+            }
+        }
+        ValueType type = ValueType.of(today);
+
+        LocalDate first = month.atDay(1);
+        int lead = (first.getDayOfWeek().getValue() - firstDayOfWeek.getValue() + 7) % 7;
+        cells = new MonthGridCell[Math.max(MIN_CELLS,
+                                           (lead + month.lengthOfMonth() + 6) / 7 * 7)];
+        LocalDate date = first.minusDays(lead);
+        for (int i = 0; i < cells.length; i++) {
+            String label;
+            if (spec == null) {
+                label = DAY_LABELS[date.getDayOfMonth()];
+            } else if ((label = type.fastFormat(spec, date)) == null) {
+                label = formatter.format(date);
+            }
+            cells[i] = new MonthGridCell(
+                    date, label,
+                    date.getMonthValue() == month.getMonthValue(),
+                    date.equals(today),
+                    names.isWeekend(date.getDayOfWeek()),
+                    i % 7 == 0, i % 7 == 6);
+            date = date.plusDays(1);
+        }
+        next = 0;
+    }
+
+    @Override
+    protected boolean hasNext() {
+        return next < cells.length;
+    }
+
+    @Override
+    protected Object next() {
+        return cells[next++];
+    }
+
+    /*
+     * The formatter spec of the labels, or null for the day of month.
+     */
+    private FormatterSpec labelSpec() throws JspTagException {
+        try {
+            if (pattern != null) {
+                return FormatterSpec.ofPattern(pattern);
+            }
+            if (style != null) {
+                return FormatterSpec.ofStyle(style);
+            }
+        } catch (JspTagException e) {
+            throw e;
+        } catch (JspException | IllegalArgumentException e) {
+            throw new JspTagException(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    private static YearMonth toYearMonth(Object value) throws JspTagException {
+        if (value instanceof YearMonth) {
+            return (YearMonth) value;
+        }
+        try {
+            if (value instanceof String) {
+                return YearMonth.parse((String) value);
+            }
+            if (value instanceof TemporalAccessor) {
+                return YearMonth.from((TemporalAccessor) value);
+            }
+        } catch (DateTimeException e) {
+            throw new JspTagException("Invalid yearMonth: " + value, e);
+        }
+        throw new JspTagException(
+                "yearMonth attribute of monthGrid tag must be a YearMonth, a String" +
+                " or a TemporalAccessor, was: " +
+                (value == null ? null : value.getClass().getName()));
+    }
+
+    // Releases any resources we may have (or inherit)
+    @Override
+    public void release() {
+        super.release();
+        init();
+    }
+}
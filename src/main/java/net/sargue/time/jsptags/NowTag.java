@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
+import jakarta.servlet.jsp.PageContext;
+import jakarta.servlet.jsp.tagext.TagSupport;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * <p>
+ * A handler for &lt;now&gt; that exposes the current instant of the request,
+ * the same for all the tags of the request.
+ * </p>
+ *
+ * @author Sergi Baila
+ * @see Util#getRequestInstant(PageContext)
+ */
+@SuppressWarnings("UnusedDeclaration")
+public class NowTag extends TagSupport {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The var attribute. */
+    private String var;
+    /** The scope attribute. */
+    private int scope;
+
+    /**
+     * Constructor.
+     */
+    public NowTag() {
+        super();
+        init();
+    }
+
+    private void init() {
+        var = null;
+        scope = PageContext.PAGE_SCOPE;
+    }
+
+    public void setVar(String var) {
+        this.var = var;
+    }
+
+    public void setScope(String scope) {
+        this.scope = Util.getScope(scope);
+    }
+
+    @Override
+    public int doEndTag() throws JspException {
+        Instant now = Util.getRequestInstant(pageContext);
+        if (var != null) {
+            pageContext.setAttribute(var, now, scope);
+        } else {
+            try {
+                pageContext.getOut().print(now);
+            } catch (IOException ioe) {
+                throw new JspTagException(ioe.toString(), ioe);
+            }
+        }
+        return EVAL_PAGE;
+    }
+
+    // Releases any resources we may have (or inherit)
+    @Override
+    public void release() {
+        init();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
+
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.Collection;
+import java.util.StringTokenizer;
+
+/**
+ * <p>
+ * A handler for &lt;parseColumn&gt; that parses many strings at once into a
+ * {@link TemporalColumn}.
+ * </p>
+ * <p>
+ * The input is either the <tt>items</tt> attribute (an array or collection
+ * of strings) or the <tt>value</tt> attribute or body, split by any of the
+ * <tt>delims</tt> characters. Blank items are skipped.
+ * </p>
+ * <p>
+ * Fixed-width ISO patterns (<tt>yyyy-MM-dd</tt> for dates and
+ * <tt>yyyy-MM-dd'T'HH:mm:ss</tt> for date-times) are parsed by
+ * {@link IsoDateParser}, falling back to the formatter for any input it does
+ * not accept.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+@SuppressWarnings("UnusedDeclaration")
+public class ParseColumnTag extends ParseSupport {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The default delimiters: comma and line breaks. */
+    public static final String DEFAULT_DELIMS = ",\r\n";
+
+    /** The items attribute. */
+    private Object items;
+    /** The delims attribute. */
+    private String delims;
+    /** The type attribute. */
+    private String type;
+
+    /**
+     * Constructor.
+     */
+    public ParseColumnTag() {
+        super();
+        init();
+    }
+
+    private void init() {
+        items = null;
+        delims = DEFAULT_DELIMS;
+        type = "LocalDate";
+    }
+
+    /**
+     * Sets the items attribute.
+     *
+     * @param items an array or collection of strings
+     */
+    public void setItems(Object items) {
+        this.items = items;
+    }
+
+    /**
+     * Sets the delims attribute.
+     *
+     * @param delims the delimiter characters
+     */
+    public void setDelims(String delims) {
+        this.delims = delims;
+    }
+
+    /**
+     * Sets the type attribute.
+     *
+     * @param type one of LocalDate, LocalDateTime, LocalTime or Instant
+     * @throws JspTagException if the type is not supported
+     */
+    public void setType(String type) throws JspTagException {
+        if (TemporalColumn.forType(type, 0) == null) {
+            throw new JspTagException("Unsupported column type: " + type);
+        }
+        this.type = type;
+    }
+
+    @Override
+    public int doEndTag() throws JspException {
+        if (var == null) {
+            throw new JspTagException("parseColumn tag requires the var attribute");
+        }
+
+        // determine the input by...
+        Object[] inputs;
+        if (items != null) {
+            // ... reading 'items' attribute
+            if (items instanceof Object[]) {
+                inputs = (Object[]) items;
+            } else if (items instanceof Collection) {
+                inputs = ((Collection<?>) items).toArray();
+            } else {
+                throw new JspException(
+                        "items attribute of parseColumn tag must be an array or a Collection," +
+                        " was: " + items.getClass().getName());
+            }
+        } else {
+            // ... reading 'value' attribute or our body
+            String input = null;
+            if (valueSpecified) {
+                input = value;
+            } else if (bodyContent != null) {
+                input = bodyContent.getString();
+            }
+            inputs = input == null ? new Object[0] : tokenize(input, delims);
+        }
+
+        // Create formatter, set its locale and time zone
+        DateTimeFormatter formatter = createFormatter();
+
+        // Parse dates
+        TemporalColumn<?> column = TemporalColumn.forType(type, inputs.length);
+        TemporalQuery<TemporalAccessor> query = column.query();
+        boolean iso = column.isIsoPattern(pattern);
+        for (Object item : inputs) {
+            if (item == null) {
+                continue;
+            }
+            String input = item.toString().trim();
+            if (input.isEmpty() || (iso && column.appendIso(input))) {
+                continue;
+            }
+            try {
+                column.append(formatter.parse(input, query));
+            } catch (DateTimeParseException e) {
+                throw new JspException(Resources.getMessage(
+                        "PARSE_DATE_PARSE_ERROR", input), e);
+            }
+        }
+        column.trimToSize();
+
+        pageContext.setAttribute(var, column, scope);
+
+        return EVAL_PAGE;
+    }
+
+    /**
+     * Splits the input by any of the delimiter characters.
+     *
+     * @param input the input
+     * @param delims the delimiter characters
+     * @return the tokens
+     */
+    static Object[] tokenize(String input, String delims) {
+        StringTokenizer tokenizer = new StringTokenizer(input, delims);
+        Object[] tokens = new Object[tokenizer.countTokens()];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = tokenizer.nextToken();
+        }
+        return tokens;
+    }
+
+    @Override
+    protected TemporalQuery<TemporalAccessor> temporalQuery() {
+        return TemporalColumn.forType(type, 0).query();
+    }
+
+    @Override
+    protected boolean zoneRequired() {
+        return "Instant".equalsIgnoreCase(type);
+    }
+
+    // Releases any resources we may have (or inherit)
+    @Override
+    public void release() {
+        super.release();
+        init();
+    }
+}
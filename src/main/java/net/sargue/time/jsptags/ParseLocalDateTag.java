@@ -39,4 +39,9 @@ public class ParseLocalDateTag extends ParseSupport {
     protected TemporalQuery<TemporalAccessor> temporalQuery() {
         return LocalDate::from;
     }
+
+    @Override
+    protected boolean zoneRequired() {
+        return false;
+    }
 }
@@ -40,4 +40,9 @@ public class ParseLocalDateTimeTag extends ParseSupport {
     protected TemporalQuery<TemporalAccessor> temporalQuery() {
         return LocalDateTime::from;
     }
+
+    @Override
+    protected boolean zoneRequired() {
+        return false;
+    }
 }
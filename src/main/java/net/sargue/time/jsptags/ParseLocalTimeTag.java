@@ -40,4 +40,9 @@ public class ParseLocalTimeTag extends ParseSupport {
     protected TemporalQuery<TemporalAccessor> temporalQuery() {
         return LocalTime::from;
     }
+
+    @Override
+    protected boolean zoneRequired() {
+        return false;
+    }
 }
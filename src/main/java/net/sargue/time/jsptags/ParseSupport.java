@@ -21,16 +21,20 @@ import jakarta.servlet.jsp.JspTagException;
 import jakarta.servlet.jsp.PageContext;
 import jakarta.servlet.jsp.tagext.BodyTagSupport;
 import java.io.IOException;
-import java.text.DateFormat;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQuery;
 import java.util.Locale;
+import java.util.Objects;
 
 /**
  * Support for tag handlers for the date and time parsing tags.
+ * <p>
+ * With the cache attribute set, results are shared through a bounded
+ * cache without locks. This is safe as long as the temporal query of the
+ * tag returns immutable objects, as the <tt>java.time</tt> types are.
  *
  * @author Jan Luehe
  * @author Jim Newsham
@@ -40,6 +44,13 @@ public abstract class ParseSupport extends BodyTagSupport {
 
         private static final long serialVersionUID = 1L;
 
+        /** Maximum number of entries of the parse cache. */
+        static final int CACHE_MAX_ENTRIES = 1024;
+
+        /** Parsed results shared by all tags with the cache attribute set. */
+        private static final BoundedCache<CacheKey, TemporalAccessor> cache =
+                new BoundedCache<>(CACHE_MAX_ENTRIES);
+
         /** The value attribute. */
         protected String value;
         /** Status of the value. */
@@ -52,10 +63,12 @@ public abstract class ParseSupport extends BodyTagSupport {
         protected ZoneId zoneId;
         /** The locale attribute. */
         protected Locale locale;
+        /** The cache attribute. */
+        protected boolean cached;
         /** The var attribute. */
-        private String var;
+        protected String var;
         /** The scope attribute. */
-        private int scope;
+        protected int scope;
 
         /**
          * Constructor.
@@ -72,6 +85,7 @@ public abstract class ParseSupport extends BodyTagSupport {
                 style = null;
                 zoneId = null;
                 locale = null;
+                cached = false;
                 scope = PageContext.PAGE_SCOPE;
         }
 
@@ -114,6 +128,18 @@ public abstract class ParseSupport extends BodyTagSupport {
                 this.pattern = pattern;
         }
 
+        /**
+         * Sets the cache attribute. When true, results are kept in a bounded
+         * cache shared by all parse tags and the same input parsed with the
+         * same settings is not parsed again.
+         *
+         * @param cached true to cache the results
+         */
+        @SuppressWarnings("UnusedDeclaration")
+        public void setCache(boolean cached) {
+                this.cached = cached;
+        }
+
         /**
          * Sets the zone attribute.
          *
@@ -176,42 +202,29 @@ public abstract class ParseSupport extends BodyTagSupport {
                         return EVAL_PAGE;
                 }
 
-                // Create formatter
-                DateTimeFormatter formatter;
-                if (pattern != null) {
-                        formatter = DateTimeFormatter.ofPattern(pattern);
-                } else if (style != null) {
-                        formatter = Util.createFormatterForStyle(style);
-                } else {
-                        formatter = Util.createFormatterForStyle("FF");
-                }
+                // Create formatter, set its locale and time zone
+                DateTimeFormatter formatter = createFormatter();
 
-                // set formatter locale
-                Locale locale = this.locale;
-                if (locale == null) {
-                        locale = Util.getFormattingLocale(pageContext, true,
-                                DateFormat.getAvailableLocales());
-                }
-                if (locale != null) {
-                        formatter = formatter.withLocale(locale);
-                }
-
-                // set formatter timezone
-                ZoneId tz = this.zoneId;
-                if (tz == null) {
-                        tz = ZoneIdSupport.getZoneId(pageContext, this);
-                }
-                if (tz != null) {
-                        formatter = formatter.withZone(tz);
+                // Look up a cached result
+                CacheKey key = null;
+                TemporalAccessor parsed = null;
+                if (cached) {
+                        key = new CacheKey(input, pattern, style, formatter.getLocale(),
+                                formatter.getZone(), getClass());
+                        parsed = cache.get(key);
                 }
 
                 // Parse date
-                TemporalAccessor parsed;
-                try {
-                        parsed = formatter.parse(input, temporalQuery());
-                } catch (DateTimeParseException e) {
-                        throw new JspException(Resources.getMessage(
-                                "PARSE_DATE_PARSE_ERROR", input), e);
+                if (parsed == null) {
+                        try {
+                                parsed = formatter.parse(input, temporalQuery());
+                        } catch (DateTimeParseException e) {
+                                throw new JspException(Resources.getMessage(
+                                        "PARSE_DATE_PARSE_ERROR", input), e);
+                        }
+                        if (key != null) {
+                                cache.put(key, parsed);
+                        }
                 }
 
                 if (var != null) {
@@ -227,6 +240,60 @@ public abstract class ParseSupport extends BodyTagSupport {
                 return EVAL_PAGE;
         }
 
+        /**
+         * Creates the formatter specified by the pattern or style attributes,
+         * with the parsing locale and time zone already set. The locale is
+         * only negotiated if the pattern depends on it, and the time zone is
+         * only looked up if the pattern parses zone fields or the tag
+         * {@linkplain #zoneRequired() requires} it.
+         *
+         * @return the formatter
+         * @throws JspException if the style is invalid
+         */
+        protected DateTimeFormatter createFormatter() throws JspException {
+                FormatterSpec spec;
+                if (pattern != null) {
+                        spec = FormatterSpec.ofPattern(pattern);
+                } else if (style != null) {
+                        spec = FormatterSpec.ofStyle(style);
+                } else {
+                        spec = FormatterSpec.ofStyle("FF");
+                }
+                DateTimeFormatter formatter = spec.formatter;
+
+                // set formatter locale
+                Locale locale = this.locale;
+                if (locale == null && spec.usesLocale) {
+                        locale = Util.getFormattingLocale(pageContext, true,
+                                Util.availableDateLocales);
+                }
+                if (locale != null) {
+                        formatter = formatter.withLocale(locale);
+                }
+
+                // set formatter timezone
+                if (spec.usesZone || zoneRequired()) {
+                        ZoneId tz = this.zoneId;
+                        if (tz == null) {
+                                tz = ZoneIdSupport.getZoneId(pageContext, this);
+                        }
+                        if (tz != null) {
+                                formatter = formatter.withZone(tz);
+                        }
+                }
+                return formatter;
+        }
+
+        /**
+         * Checks if the result of the tag depends on the time zone even when
+         * the pattern has no zone fields, as an instant does.
+         *
+         * @return true by default, subclasses parsing local values return false
+         */
+        protected boolean zoneRequired() {
+                return true;
+        }
+
         /**
          * Abstract method to define the query used to format the input with
          * each specific tag.
@@ -240,4 +307,54 @@ public abstract class ParseSupport extends BodyTagSupport {
                 init();
         }
 
+        /**
+         * The input and everything that determines the parsed result: the
+         * resolved formatter settings and the tag class, which defines the
+         * temporal query.
+         */
+        private static final class CacheKey {
+
+                private final String input;
+                private final String pattern;
+                private final String style;
+                private final Locale locale;
+                private final ZoneId zoneId;
+                private final Class<?> tagClass;
+                private final int hash;
+
+                CacheKey(String input, String pattern, String style, Locale locale,
+                        ZoneId zoneId, Class<?> tagClass) {
+                        this.input = input;
+                        this.pattern = pattern;
+                        this.style = style;
+                        this.locale = locale;
+                        this.zoneId = zoneId;
+                        this.tagClass = tagClass;
+                        this.hash = Objects.hash(input, pattern, style, locale, zoneId, tagClass);
+                }
+
+                @Override
+                public boolean equals(Object obj) {
+                        if (this == obj) {
+                                return true;
+                        }
+                        if (!(obj instanceof CacheKey)) {
+                                return false;
+                        }
+                        CacheKey other = (CacheKey) obj;
+                        return hash == other.hash
+                                && input.equals(other.input)
+                                && tagClass == other.tagClass
+                                && Objects.equals(pattern, other.pattern)
+                                && Objects.equals(style, other.style)
+                                && Objects.equals(locale, other.locale)
+                                && Objects.equals(zoneId, other.zoneId);
+                }
+
+                @Override
+                public int hashCode() {
+                        return hash;
+                }
+        }
+
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
+import jakarta.servlet.jsp.tagext.TagSupport;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * <p>
+ * A handler for &lt;setDateHeader&gt; that sets an HTTP date header of the
+ * response, like <tt>Expires</tt> or <tt>Last-Modified</tt>.
+ * </p>
+ * <p>
+ * The date is the value, or the current instant of the request if there is
+ * none, plus the offset. Values without an instant are in the time zone of
+ * the page. The header is always written in GMT, and the formatted date of
+ * the last second is reused (see {@link HttpDate}).
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+@SuppressWarnings("UnusedDeclaration")
+public class SetDateHeaderTag extends TagSupport {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The name attribute. */
+    private String name;
+    /** The value attribute. */
+    private Object value;
+    /** The offset attribute. */
+    private Duration offset;
+
+    /**
+     * Constructor.
+     */
+    public SetDateHeaderTag() {
+        super();
+        init();
+    }
+
+    private void init() {
+        name = null;
+        value = null;
+        offset = null;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setValue(Object value) {
+        this.value = value;
+    }
+
+    /**
+     * Sets the offset attribute.
+     *
+     * @param offset a <tt>Duration</tt> or an ISO-8601 duration
+     *               <tt>String</tt>, like <tt>PT1H</tt>
+     * @throws JspTagException if the offset is not a duration
+     */
+    public void setOffset(Object offset) throws JspTagException {
+        if (offset == null || (offset instanceof String && ((String) offset).isEmpty())) {
+            this.offset = null;
+        } else if (offset instanceof Duration) {
+            this.offset = (Duration) offset;
+        } else if (offset instanceof String) {
+            try {
+                this.offset = Duration.parse((String) offset);
+            } catch (DateTimeParseException e) {
+                throw new JspTagException("Incorrect offset: " + offset, e);
+            }
+        } else
+            throw new JspTagException("Can only accept Duration or String objects.");
+    }
+
+    @Override
+    public int doEndTag() throws JspException {
+        long epochSecond = value == null
+                ? Util.getRequestInstant(pageContext).getEpochSecond()
+                : epochSecond(value);
+        if (offset != null) {
+            epochSecond = Math.addExact(epochSecond, offset.getSeconds());
+        }
+
+        ServletResponse response = pageContext.getResponse();
+        if (response instanceof HttpServletResponse) {
+            ((HttpServletResponse) response).setHeader(name, HttpDate.format(epochSecond));
+        }
+        return EVAL_PAGE;
+    }
+
+    /*
+     * The seconds from the epoch of the value, local values being in the
+     * time zone of the page.
+     */
+    private long epochSecond(Object value) throws JspException {
+        ValueType type = ValueType.of(value);
+        if (!type.supported) {
+            throw new JspException(
+                    "value attribute of setDateHeader tag must be a TemporalAccessor," +
+                    " Date, Calendar or Long, was: " + value.getClass().getName());
+        }
+        TemporalAccessor temporal = type.toTemporal(value);
+        if (type.hasInstant(temporal)) {
+            return temporal.getLong(ChronoField.INSTANT_SECONDS);
+        }
+        try {
+            LocalTime time = temporal.isSupported(ChronoField.NANO_OF_DAY)
+                    ? LocalTime.from(temporal)
+                    : LocalTime.MIDNIGHT;
+            ZoneId zoneId = ZoneIdSupport.getZoneId(pageContext, this);
+            if (zoneId == null) {
+                zoneId = ZoneId.systemDefault();
+            }
+            return LocalDate.from(temporal).atTime(time).atZone(zoneId).toEpochSecond();
+        } catch (DateTimeException e) {
+            throw new JspException(
+                    "value attribute of setDateHeader tag must have a date, was: " +
+                    value.getClass().getName(), e);
+        }
+    }
+
+    // Releases any resources we may have (or inherit)
+    @Override
+    public void release() {
+        init();
+    }
+}
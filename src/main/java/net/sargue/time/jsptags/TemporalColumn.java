@@ -0,0 +1,447 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * <p>
+ * A compact, read-only list of temporals backed by primitive arrays.
+ * </p>
+ * <p>
+ * Values are stored as numbers (epoch days, epoch seconds plus nanos, ...)
+ * and the <tt>java.time</tt> objects are only created when an element is
+ * read through the {@link java.util.List} view. The primitive values can also
+ * be read directly by the specific subclasses.
+ * </p>
+ *
+ * @param <T> the type of the elements
+ * @author Sergi Baila
+ */
+public abstract class TemporalColumn<T extends TemporalAccessor>
+        extends AbstractList<T> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The default initial capacity. */
+    static final int DEFAULT_CAPACITY = 16;
+
+    /** The number of elements. */
+    protected int size;
+
+    /**
+     * Creates an empty column for the given type name, one of
+     * <tt>LocalDate</tt>, <tt>LocalDateTime</tt>, <tt>LocalTime</tt> or
+     * <tt>Instant</tt> (case insensitive).
+     *
+     * @param type the type name
+     * @param capacity the initial capacity
+     * @return the column, or <tt>null</tt> if the type is not supported
+     */
+    public static TemporalColumn<?> forType(String type, int capacity) {
+        if ("LocalDate".equalsIgnoreCase(type)) {
+            return new OfLocalDate(capacity);
+        } else if ("LocalDateTime".equalsIgnoreCase(type)) {
+            return new OfLocalDateTime(capacity);
+        } else if ("LocalTime".equalsIgnoreCase(type)) {
+            return new OfLocalTime(capacity);
+        } else if ("Instant".equalsIgnoreCase(type)) {
+            return new OfInstant(capacity);
+        }
+        return null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return create(index);
+    }
+
+    /**
+     * Appends a value to the column.
+     *
+     * @param value the value, which must support the fields stored by
+     *              the column
+     */
+    public abstract void append(TemporalAccessor value);
+
+    /**
+     * Returns the query to parse the values stored by this column.
+     *
+     * @return the temporal query
+     */
+    public abstract TemporalQuery<TemporalAccessor> query();
+
+    /**
+     * Trims the capacity of the backing arrays to the size of the column.
+     */
+    public abstract void trimToSize();
+
+    /**
+     * Checks if the values of this column can be parsed by
+     * {@link IsoDateParser} when using the given pattern.
+     *
+     * @param pattern the parse pattern
+     * @return true if {@link #appendIso(String)} may be used
+     */
+    boolean isIsoPattern(String pattern) {
+        return false;
+    }
+
+    /**
+     * Parses and appends a value using {@link IsoDateParser}.
+     *
+     * @param input the input
+     * @return false if the input was not accepted and nothing was appended
+     */
+    boolean appendIso(String input) {
+        return false;
+    }
+
+    /**
+     * Creates the temporal object for the given element.
+     *
+     * @param index the index, already checked
+     * @return the temporal object
+     */
+    protected abstract T create(int index);
+
+    /**
+     * Computes the new capacity needed to append one more element.
+     *
+     * @param length the current length of the backing arrays
+     * @return the new length
+     */
+    static int grow(int length) {
+        return Math.max(DEFAULT_CAPACITY, length + (length >> 1));
+    }
+
+    /**
+     * A column of <tt>LocalDate</tt> stored as epoch days.
+     */
+    public static final class OfLocalDate extends TemporalColumn<LocalDate> {
+
+        private static final long serialVersionUID = 1L;
+
+        private long[] epochDays;
+
+        /**
+         * Constructor.
+         *
+         * @param capacity the initial capacity
+         */
+        public OfLocalDate(int capacity) {
+            epochDays = new long[capacity];
+        }
+
+        /**
+         * Gets the epoch day of an element.
+         *
+         * @param index the index
+         * @return the epoch day
+         */
+        public long getEpochDay(int index) {
+            Objects.checkIndex(index, size);
+            return epochDays[index];
+        }
+
+        /**
+         * Appends an epoch day to the column.
+         *
+         * @param epochDay the epoch day
+         */
+        public void appendEpochDay(long epochDay) {
+            if (size == epochDays.length) {
+                epochDays = Arrays.copyOf(epochDays, grow(size));
+            }
+            epochDays[size++] = epochDay;
+        }
+
+        @Override
+        public void append(TemporalAccessor value) {
+            appendEpochDay(value.getLong(ChronoField.EPOCH_DAY));
+        }
+
+        @Override
+        public TemporalQuery<TemporalAccessor> query() {
+            return LocalDate::from;
+        }
+
+        @Override
+        boolean isIsoPattern(String pattern) {
+            return IsoDateParser.isLocalDatePattern(pattern);
+        }
+
+        @Override
+        boolean appendIso(String input) {
+            long epochDay = IsoDateParser.parseEpochDay(input);
+            if (epochDay == IsoDateParser.INVALID) {
+                return false;
+            }
+            appendEpochDay(epochDay);
+            return true;
+        }
+
+        @Override
+        public void trimToSize() {
+            epochDays = Arrays.copyOf(epochDays, size);
+        }
+
+        @Override
+        protected LocalDate create(int index) {
+            return LocalDate.ofEpochDay(epochDays[index]);
+        }
+    }
+
+    /**
+     * A column of <tt>LocalTime</tt> stored as nanos of day.
+     */
+    public static final class OfLocalTime extends TemporalColumn<LocalTime> {
+
+        private static final long serialVersionUID = 1L;
+
+        private long[] nanosOfDay;
+
+        /**
+         * Constructor.
+         *
+         * @param capacity the initial capacity
+         */
+        public OfLocalTime(int capacity) {
+            nanosOfDay = new long[capacity];
+        }
+
+        /**
+         * Gets the nano of day of an element.
+         *
+         * @param index the index
+         * @return the nano of day
+         */
+        public long getNanoOfDay(int index) {
+            Objects.checkIndex(index, size);
+            return nanosOfDay[index];
+        }
+
+        @Override
+        public void append(TemporalAccessor value) {
+            if (size == nanosOfDay.length) {
+                nanosOfDay = Arrays.copyOf(nanosOfDay, grow(size));
+            }
+            nanosOfDay[size++] = value.getLong(ChronoField.NANO_OF_DAY);
+        }
+
+        @Override
+        public TemporalQuery<TemporalAccessor> query() {
+            return LocalTime::from;
+        }
+
+        @Override
+        public void trimToSize() {
+            nanosOfDay = Arrays.copyOf(nanosOfDay, size);
+        }
+
+        @Override
+        protected LocalTime create(int index) {
+            return LocalTime.ofNanoOfDay(nanosOfDay[index]);
+        }
+    }
+
+    /**
+     * Base class for the columns stored as epoch seconds plus nanos. The
+     * nanos array is only allocated once a value with a fraction of second
+     * is appended.
+     *
+     * @param <T> the type of the elements
+     */
+    public abstract static class OfEpochSecond<T extends TemporalAccessor>
+            extends TemporalColumn<T> {
+
+        private static final long serialVersionUID = 1L;
+
+        private long[] epochSeconds;
+        private int[] nanos;
+
+        OfEpochSecond(int capacity) {
+            epochSeconds = new long[capacity];
+        }
+
+        /**
+         * Gets the epoch second of an element.
+         *
+         * @param index the index
+         * @return the epoch second
+         */
+        public long getEpochSecond(int index) {
+            Objects.checkIndex(index, size);
+            return epochSeconds[index];
+        }
+
+        /**
+         * Gets the nano of second of an element.
+         *
+         * @param index the index
+         * @return the nano of second
+         */
+        public int getNano(int index) {
+            Objects.checkIndex(index, size);
+            return nanos == null ? 0 : nanos[index];
+        }
+
+        /**
+         * Appends an epoch second and nano of second to the column.
+         *
+         * @param epochSecond the epoch second
+         * @param nano the nano of second
+         */
+        public void appendEpochSecond(long epochSecond, int nano) {
+            if (size == epochSeconds.length) {
+                epochSeconds = Arrays.copyOf(epochSeconds, grow(size));
+            }
+            if (nano != 0 && nanos == null) {
+                nanos = new int[epochSeconds.length];
+            }
+            if (nanos != null) {
+                if (nanos.length < epochSeconds.length) {
+                    nanos = Arrays.copyOf(nanos, epochSeconds.length);
+                }
+                nanos[size] = nano;
+            }
+            epochSeconds[size++] = epochSecond;
+        }
+
+        @Override
+        public void trimToSize() {
+            epochSeconds = Arrays.copyOf(epochSeconds, size);
+            if (nanos != null) {
+                nanos = Arrays.copyOf(nanos, size);
+            }
+        }
+
+        @Override
+        protected T create(int index) {
+            return create(epochSeconds[index], nanos == null ? 0 : nanos[index]);
+        }
+
+        /**
+         * Creates the temporal object for the given epoch second and nanos.
+         *
+         * @param epochSecond the epoch second
+         * @param nano the nano of second
+         * @return the temporal object
+         */
+        protected abstract T create(long epochSecond, int nano);
+    }
+
+    /**
+     * A column of <tt>Instant</tt> stored as epoch seconds plus nanos.
+     */
+    public static final class OfInstant extends OfEpochSecond<Instant> {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructor.
+         *
+         * @param capacity the initial capacity
+         */
+        public OfInstant(int capacity) {
+            super(capacity);
+        }
+
+        @Override
+        public void append(TemporalAccessor value) {
+            appendEpochSecond(value.getLong(ChronoField.INSTANT_SECONDS),
+                              value.get(ChronoField.NANO_OF_SECOND));
+        }
+
+        @Override
+        public TemporalQuery<TemporalAccessor> query() {
+            return Instant::from;
+        }
+
+        @Override
+        protected Instant create(long epochSecond, int nano) {
+            return Instant.ofEpochSecond(epochSecond, nano);
+        }
+    }
+
+    /**
+     * A column of <tt>LocalDateTime</tt> stored as epoch seconds at UTC
+     * plus nanos.
+     */
+    public static final class OfLocalDateTime extends OfEpochSecond<LocalDateTime> {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructor.
+         *
+         * @param capacity the initial capacity
+         */
+        public OfLocalDateTime(int capacity) {
+            super(capacity);
+        }
+
+        @Override
+        public void append(TemporalAccessor value) {
+            appendEpochSecond(value.getLong(ChronoField.EPOCH_DAY) * 86400
+                              + value.getLong(ChronoField.SECOND_OF_DAY),
+                              value.get(ChronoField.NANO_OF_SECOND));
+        }
+
+        @Override
+        public TemporalQuery<TemporalAccessor> query() {
+            return LocalDateTime::from;
+        }
+
+        @Override
+        boolean isIsoPattern(String pattern) {
+            return IsoDateParser.isLocalDateTimePattern(pattern);
+        }
+
+        @Override
+        boolean appendIso(String input) {
+            long epochSecond = IsoDateParser.parseEpochSecond(input);
+            if (epochSecond == IsoDateParser.INVALID) {
+                return false;
+            }
+            appendEpochSecond(epochSecond, 0);
+            return true;
+        }
+
+        @Override
+        protected LocalDateTime create(long epochSecond, int nano) {
+            return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A group of consecutive values in the same day, week, month or year,
+ * iterated by &lt;groupBy&gt;.
+ *
+ * @author Sergi Baila
+ */
+public final class TemporalGroup {
+
+    private final LocalDate start;
+    private final String header;
+    private final List<Object> items;
+
+    TemporalGroup(LocalDate start, String header, List<Object> items) {
+        this.start = start;
+        this.header = header;
+        this.items = Collections.unmodifiableList(items);
+    }
+
+    /**
+     * @return the first day of the day, week, month or year of the group
+     */
+    public LocalDate getStart() {
+        return start;
+    }
+
+    /**
+     * @return the start of the group formatted with the pattern or style of
+     * the tag
+     */
+    public String getHeader() {
+        return header;
+    }
+
+    /**
+     * @return the values of the group, in their original order
+     */
+    public List<Object> getItems() {
+        return items;
+    }
+
+    /**
+     * @return the number of values of the group
+     */
+    public int getSize() {
+        return items.size();
+    }
+
+    @Override
+    public String toString() {
+        return header;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * Localized time unit strings, loaded once per locale from the
+ * <tt>TimeUnits</tt> resource bundle.
+ * </p>
+ * <p>
+ * The templates are split around the amount when loaded, so formatting only
+ * appends the prefix, the number and the suffix. The bundle does not fall
+ * back to the default locale of the JVM but to the base (English) strings.
+ * </p>
+ * <p>
+ * The strings are cached by the locale of the bundle found, so there are as
+ * many as bundles. The locales asked for, which may come from the page, are
+ * only mapped to them in a bounded cache.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+final class TimeUnits {
+
+    /** The location of the resources. */
+    private static final String BUNDLE = "net.sargue.time.jsptags.TimeUnits";
+
+    /** Unit index for minutes. */
+    static final int MINUTE = 0;
+    /** Unit index for hours. */
+    static final int HOUR = 1;
+    /** Unit index for days. */
+    static final int DAY = 2;
+    /** Unit index for weeks. */
+    static final int WEEK = 3;
+    /** Unit index for months. */
+    static final int MONTH = 4;
+    /** Unit index for years. */
+    static final int YEAR = 5;
+
+    private static final String[] UNIT_KEYS = {
+            "minute", "hour", "day", "week", "month", "year"
+    };
+
+    private static final String PLACEHOLDER = "{0}";
+
+    /** The maximum number of locales mapped to their strings. */
+    static final int MAX_LOCALES = 256;
+
+    /** The strings, by locale of the bundle. */
+    private static final ConcurrentMap<Locale, TimeUnits> bundles =
+            new ConcurrentHashMap<>();
+
+    /** The strings, by locale asked for. */
+    private static final BoundedCache<Locale, TimeUnits> cache =
+            new BoundedCache<>(MAX_LOCALES);
+
+    /** The text for a time less than a minute away. */
+    final String now;
+    /** The text for the current date. */
+    final String today;
+
+    /** Symbols of the compact duration style. */
+    final String yearSymbol;
+    final String monthSymbol;
+    final String daySymbol;
+    final String hourSymbol;
+    final String minuteSymbol;
+    final String secondSymbol;
+
+    /*
+     * Prefix and suffix of the amount, indexed by unit, plural and direction
+     * (see index()).
+     */
+    private final String[] prefixes;
+    private final String[] suffixes;
+
+    private TimeUnits(ResourceBundle bundle) {
+        now = bundle.getString("now");
+        today = bundle.getString("today");
+        yearSymbol = bundle.getString("symbol.year");
+        monthSymbol = bundle.getString("symbol.month");
+        daySymbol = bundle.getString("symbol.day");
+        hourSymbol = bundle.getString("symbol.hour");
+        minuteSymbol = bundle.getString("symbol.minute");
+        secondSymbol = bundle.getString("symbol.second");
+        String past = bundle.getString("past");
+        String future = bundle.getString("future");
+        prefixes = new String[UNIT_KEYS.length * 4];
+        suffixes = new String[UNIT_KEYS.length * 4];
+        for (int unit = 0; unit < UNIT_KEYS.length; unit++) {
+            for (int one = 0; one < 2; one++) {
+                String amount = bundle.getString(
+                        UNIT_KEYS[unit] + (one == 0 ? ".one" : ".other"));
+                split(index(unit, one == 0, false), past.replace(PLACEHOLDER, amount));
+                split(index(unit, one == 0, true), future.replace(PLACEHOLDER, amount));
+            }
+        }
+    }
+
+    /**
+     * Gets the unit strings for a locale.
+     *
+     * @param locale the locale, or <tt>null</tt> for the default locale
+     * @return the unit strings
+     */
+    static TimeUnits forLocale(Locale locale) {
+        if (locale == null) {
+            locale = Locale.getDefault(Locale.Category.FORMAT);
+        }
+        TimeUnits units = cache.get(locale);
+        if (units == null) {
+            ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE, locale,
+                    ResourceBundle.Control.getNoFallbackControl(
+                            ResourceBundle.Control.FORMAT_PROPERTIES));
+            units = bundles.computeIfAbsent(bundle.getLocale(), l -> new TimeUnits(bundle));
+            cache.put(locale, units);
+        }
+        return units;
+    }
+
+    /**
+     * Formats a time relative to now, in the largest unit with a non zero
+     * amount.
+     *
+     * @param seconds the seconds from now, negative for the past
+     * @return the relative time
+     */
+    String formatSeconds(long seconds) {
+        long abs = Math.abs(seconds);
+        if (abs < 60) {
+            return now;
+        } else if (abs < 3600) {
+            return format(abs / 60, MINUTE, seconds > 0);
+        } else if (abs < 86400) {
+            return format(abs / 3600, HOUR, seconds > 0);
+        }
+        return formatDays(seconds / 86400);
+    }
+
+    /**
+     * Formats a date relative to today, in the largest unit with a non zero
+     * amount. Months are 30 days and years 365 days.
+     *
+     * @param days the days from today, negative for the past
+     * @return the relative date
+     */
+    String formatDays(long days) {
+        long abs = Math.abs(days);
+        if (abs == 0) {
+            return today;
+        } else if (abs < 7) {
+            return format(abs, DAY, days > 0);
+        } else if (abs < 30) {
+            return format(abs / 7, WEEK, days > 0);
+        } else if (abs < 365) {
+            return format(abs / 30, MONTH, days > 0);
+        }
+        return format(abs / 365, YEAR, days > 0);
+    }
+
+    /**
+     * Formats an amount of a unit in the past or in the future.
+     *
+     * @param amount the amount, not negative
+     * @param unit the unit index
+     * @param future true for the future, false for the past
+     * @return the formatted amount
+     */
+    String format(long amount, int unit, boolean future) {
+        int i = index(unit, amount == 1, future);
+        return new StringBuilder(prefixes[i].length() + 20 + suffixes[i].length())
+                .append(prefixes[i]).append(amount).append(suffixes[i])
+                .toString();
+    }
+
+    private static int index(int unit, boolean one, boolean future) {
+        return (unit << 2) | (one ? 0 : 2) | (future ? 1 : 0);
+    }
+
+    private void split(int index, String template) {
+        int pos = template.indexOf(PLACEHOLDER);
+        prefixes[index] = template.substring(0, pos);
+        suffixes[index] = template.substring(pos + PLACEHOLDER.length());
+    }
+}
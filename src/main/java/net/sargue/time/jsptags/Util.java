@@ -25,6 +25,8 @@ import jakarta.servlet.jsp.jstl.fmt.LocalizationContext;
 
 import java.text.DateFormat;
 import java.text.NumberFormat;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
 import java.util.*;
@@ -56,6 +58,9 @@ public class Util {
 
     static final String REQUEST_CHAR_SET = "javax.servlet.jsp.jstl.fmt.request.charset";
 
+    /** The request attribute holding the current instant of the request. */
+    public static final String REQUEST_INSTANT = "net.sargue.time.jsptags.now";
+
     /**
      * Converts the given string description of a scope to the corresponding
      * PageContext constant.
@@ -204,6 +209,92 @@ public class Util {
         }
     }
 
+    /**
+     * Gets the current instant of the request. It is sampled from the system
+     * clock the first time and kept in the <tt>REQUEST_INSTANT</tt> request
+     * attribute, so all the tags of a request share the same instant.
+     *
+     * @param pc the page context
+     * @return the current instant of the request
+     */
+    public static Instant getRequestInstant(PageContext pc) {
+        Object now = pc.getAttribute(REQUEST_INSTANT, PageContext.REQUEST_SCOPE);
+        if (now instanceof Instant) {
+            return (Instant) now;
+        }
+        Instant instant = Instant.now();
+        pc.setAttribute(REQUEST_INSTANT, instant, PageContext.REQUEST_SCOPE);
+        return instant;
+    }
+
+    /**
+     * Appends the text escaping the XML special characters, so it can be used
+     * as element content or as an attribute value.
+     *
+     * @param text the text
+     * @param sb the output
+     */
+    static void escapeXml(CharSequence text, StringBuilder sb) {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<':
+                    sb.append("&lt;");
+                    break;
+                case '>':
+                    sb.append("&gt;");
+                    break;
+                case '&':
+                    sb.append("&amp;");
+                    break;
+                case '"':
+                    sb.append("&#034;");
+                    break;
+                case '\'':
+                    sb.append("&#039;");
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+    }
+
+    /**
+     * Gets the locale from the first {@link ZoneLocaleResolver} returning one.
+     *
+     * @param pc the page context
+     * @return the locale, or <tt>null</tt> if there are no resolvers or none
+     * resolved the locale
+     */
+    static Locale resolveLocale(PageContext pc) {
+        for (ZoneLocaleResolver resolver : Resolvers.RESOLVERS) {
+            Locale locale = resolver.resolveLocale(pc);
+            if (locale != null) {
+                return locale;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the time zone from the first {@link ZoneLocaleResolver} returning
+     * one.
+     *
+     * @param pc the page context
+     * @return the time zone, or <tt>null</tt> if there are no resolvers or none
+     * resolved the time zone
+     */
+    static ZoneId resolveZoneId(PageContext pc) {
+        for (ZoneLocaleResolver resolver : Resolvers.RESOLVERS) {
+            ZoneId zoneId = resolver.resolveZoneId(pc);
+            if (zoneId != null) {
+                return zoneId;
+            }
+        }
+        return null;
+    }
+
     /**
      * Returns the formatting locale to use with the given formatting action in
      * the given page.
@@ -221,6 +312,15 @@ public class Util {
      */
     static Locale getFormattingLocale(PageContext pc, boolean format, Locale[] avail) {
 
+        // Use locale from the resolvers, if any
+        Locale resolved = resolveLocale(pc);
+        if (resolved != null) {
+            if (format) {
+                setResponseLocale(pc, resolved);
+            }
+            return resolved;
+        }
+
         LocalizationContext locCtxt;
 
         // Use locale from default I18N localization context, unless it is null
@@ -261,13 +361,20 @@ public class Util {
         return match;
     }
 
+    /**
+     * The locales of <tt>DateFormat</tt>, against which the tags negotiate
+     * their formatting locale. Kept here as <tt>getAvailableLocales</tt>
+     * builds a new array on each call.
+     */
+    static final Locale[] availableDateLocales = DateFormat.getAvailableLocales();
+
     /**
      * Setup the available formatting locales that will be used by
      * getFormattingLocale(PageContext).
      */
     static Locale[] availableFormattingLocales;
     static {
-        Locale[] dateLocales = DateFormat.getAvailableLocales();
+        Locale[] dateLocales = availableDateLocales;
         Set<Locale> numberLocales = new HashSet<>(Arrays.asList(NumberFormat.getAvailableLocales()));
         ArrayList<Locale> locales = new ArrayList<>();
         for (Locale dateLocale : dateLocales)
@@ -640,7 +747,7 @@ public class Util {
      * @param ch the one character style code
      * @return the FormatStyle
      */
-    private static FormatStyle selectStyle(char ch) throws JspException {
+    static FormatStyle selectStyle(char ch) throws JspException {
         switch (ch) {
             case 'S':
                 return SHORT;
@@ -656,4 +763,21 @@ public class Util {
                 throw new JspException("Invalid style character: " + ch);
         }
     }
+
+    /**
+     * The resolvers, loaded once with the class loader of this library.
+     */
+    private static final class Resolvers {
+
+        static final ZoneLocaleResolver[] RESOLVERS = load();
+
+        private static ZoneLocaleResolver[] load() {
+            List<ZoneLocaleResolver> resolvers = new ArrayList<>();
+            for (ZoneLocaleResolver resolver : ServiceLoader.load(
+                    ZoneLocaleResolver.class, ZoneLocaleResolver.class.getClassLoader())) {
+                resolvers.add(resolver);
+            }
+            return resolvers.toArray(new ZoneLocaleResolver[0]);
+        }
+    }
 }
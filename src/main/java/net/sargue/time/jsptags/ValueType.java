@@ -0,0 +1,330 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * <p>
+ * How the format tags handle the values of a concrete class.
+ * </p>
+ * <p>
+ * The strategy is computed once per class and kept in a {@link ClassValue},
+ * replacing the <tt>instanceof</tt> chains and the calls through
+ * <tt>TemporalAccessor</tt> that were made for every value. It tells if the
+ * values need the system default zone when no time zone is specified, if they
+ * represent an instant, and it may format some values without a formatter.
+ * </p>
+ * <p>
+ * Legacy values (<tt>java.util.Date</tt>, <tt>Calendar</tt>, the
+ * <tt>java.sql</tt> types and <tt>Long</tt> epoch milliseconds) are first
+ * converted by {@link #toTemporal(Object)}, and the rest of the methods take
+ * the converted value.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+abstract class ValueType {
+
+    private static final ClassValue<ValueType> TYPES = new ClassValue<ValueType>() {
+        @Override
+        protected ValueType computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    /** Values of types that may or may not represent an instant. */
+    private static final ValueType DYNAMIC = new ValueType(true, false, false) {
+        @Override
+        boolean hasInstant(Object value) {
+            return ((TemporalAccessor) value).isSupported(ChronoField.INSTANT_SECONDS);
+        }
+    };
+
+    /** Values that are not supported by the format tags. */
+    private static final ValueType UNSUPPORTED = new ValueType(false, false, false) {
+    };
+
+    /** True if the values are supported by the format tags. */
+    final boolean supported;
+
+    /** True if the values need the system default zone when none is specified. */
+    final boolean needsDefaultZone;
+
+    private final boolean instant;
+
+    ValueType(boolean supported, boolean needsDefaultZone, boolean instant) {
+        this.supported = supported;
+        this.needsDefaultZone = needsDefaultZone;
+        this.instant = instant;
+    }
+
+    /**
+     * Gets the strategy for the class of a value.
+     *
+     * @param value the value, not null
+     * @return the strategy
+     */
+    static ValueType of(Object value) {
+        return TYPES.get(value.getClass());
+    }
+
+    /**
+     * Converts the value to the temporal object that is formatted.
+     *
+     * @param value the value, of this type
+     * @return the temporal object
+     */
+    TemporalAccessor toTemporal(Object value) {
+        return (TemporalAccessor) value;
+    }
+
+    /**
+     * Checks if the value represents an instant, so the time zone of the
+     * formatter changes the local date and time being formatted.
+     *
+     * @param value the value, of this type
+     * @return true if the value supports the instant seconds field
+     */
+    boolean hasInstant(Object value) {
+        return instant;
+    }
+
+    /**
+     * Formats the value without a formatter, if this type has a specialized
+     * implementation for the spec.
+     *
+     * @param spec the formatter spec
+     * @param value the value, of this type
+     * @return the formatted value, or <tt>null</tt> to use the formatter
+     */
+    String fastFormat(FormatterSpec spec, Object value) {
+        return null;
+    }
+
+    /**
+     * Gets the ISO-8601 representation of the value, as used in the
+     * <tt>datetime</tt> attribute of an HTML <tt>&lt;time&gt;</tt> element.
+     * Values with an instant are represented in UTC.
+     *
+     * @param value the value, of this type
+     * @return the ISO representation, or <tt>null</tt> if the type has none
+     */
+    String toIso(Object value) {
+        return null;
+    }
+
+    private static ValueType create(Class<?> type) {
+        if (type == LocalDate.class) {
+            return new ValueType(true, false, false) {
+                @Override
+                String fastFormat(FormatterSpec spec, Object value) {
+                    return spec.iso == FormatterSpec.ISO_DATE
+                            ? formatIso((LocalDate) value, null)
+                            : null;
+                }
+
+                @Override
+                String toIso(Object value) {
+                    return value.toString();
+                }
+            };
+        } else if (type == LocalDateTime.class) {
+            return new ValueType(true, true, false) {
+                @Override
+                String fastFormat(FormatterSpec spec, Object value) {
+                    if (spec.iso == FormatterSpec.ISO_NONE) {
+                        return null;
+                    }
+                    LocalDateTime dateTime = (LocalDateTime) value;
+                    return formatIso(dateTime.toLocalDate(),
+                            spec.iso == FormatterSpec.ISO_DATE_TIME
+                                    ? dateTime.toLocalTime()
+                                    : null);
+                }
+
+                @Override
+                String toIso(Object value) {
+                    return value.toString();
+                }
+            };
+        } else if (type == Instant.class) {
+            return new ValueType(true, true, true) {
+                @Override
+                String toIso(Object value) {
+                    return value.toString();
+                }
+            };
+        } else if (type == OffsetDateTime.class) {
+            return new ValueType(true, true, true) {
+                @Override
+                String toIso(Object value) {
+                    return ((OffsetDateTime) value).toInstant().toString();
+                }
+            };
+        } else if (type == ZonedDateTime.class) {
+            return new ValueType(true, false, true) {
+                @Override
+                String toIso(Object value) {
+                    return ((ZonedDateTime) value).toInstant().toString();
+                }
+            };
+        } else if (type == LocalTime.class) {
+            return new ValueType(true, true, false) {
+                @Override
+                String toIso(Object value) {
+                    return value.toString();
+                }
+            };
+        } else if (type == OffsetTime.class) {
+            return new ValueType(true, true, false) {
+            };
+        } else if (type == Year.class || type == YearMonth.class) {
+            return new ValueType(true, false, false) {
+                @Override
+                String toIso(Object value) {
+                    return value.toString();
+                }
+            };
+        } else if (type == MonthDay.class || type == Month.class
+                   || type == DayOfWeek.class) {
+            return new ValueType(true, false, false) {
+            };
+        } else if (TemporalAccessor.class.isAssignableFrom(type)) {
+            return DYNAMIC;
+        } else if (java.sql.Date.class.isAssignableFrom(type)) {
+            return new Converted(TYPES.get(LocalDate.class)) {
+                @Override
+                TemporalAccessor toTemporal(Object value) {
+                    return ((java.sql.Date) value).toLocalDate();
+                }
+            };
+        } else if (java.sql.Time.class.isAssignableFrom(type)) {
+            return new Converted(TYPES.get(LocalTime.class)) {
+                @Override
+                TemporalAccessor toTemporal(Object value) {
+                    return ((java.sql.Time) value).toLocalTime();
+                }
+            };
+        } else if (Timestamp.class.isAssignableFrom(type)) {
+            return new Converted(TYPES.get(Instant.class)) {
+                @Override
+                TemporalAccessor toTemporal(Object value) {
+                    return ((Timestamp) value).toInstant();
+                }
+            };
+        } else if (Date.class.isAssignableFrom(type)) {
+            return new Converted(TYPES.get(Instant.class)) {
+                @Override
+                TemporalAccessor toTemporal(Object value) {
+                    return Instant.ofEpochMilli(((Date) value).getTime());
+                }
+            };
+        } else if (Calendar.class.isAssignableFrom(type)) {
+            return new Converted(TYPES.get(Instant.class)) {
+                @Override
+                TemporalAccessor toTemporal(Object value) {
+                    return Instant.ofEpochMilli(((Calendar) value).getTimeInMillis());
+                }
+            };
+        } else if (type == Long.class) {
+            return new Converted(TYPES.get(Instant.class)) {
+                @Override
+                TemporalAccessor toTemporal(Object value) {
+                    return Instant.ofEpochMilli((Long) value);
+                }
+            };
+        }
+        return UNSUPPORTED;
+    }
+
+    /**
+     * A legacy type formatted as the temporal type it is converted to.
+     */
+    private abstract static class Converted extends ValueType {
+
+        private final ValueType target;
+
+        Converted(ValueType target) {
+            super(true, target.needsDefaultZone, target.instant);
+            this.target = target;
+        }
+
+        @Override
+        abstract TemporalAccessor toTemporal(Object value);
+
+        @Override
+        String fastFormat(FormatterSpec spec, Object value) {
+            return target.fastFormat(spec, value);
+        }
+
+        @Override
+        String toIso(Object value) {
+            return target.toIso(value);
+        }
+    }
+
+    /*
+     * Formats as yyyy-MM-dd, optionally followed by 'T'HH:mm:ss. Only years
+     * from 1 to 9999, where the year and year of era patterns print the same
+     * four digits.
+     */
+    private static String formatIso(LocalDate date, LocalTime time) {
+        int year = date.getYear();
+        if (year < 1 || year > 9999) {
+            return null;
+        }
+        char[] buf = new char[time == null ? 10 : 19];
+        buf[0] = (char) ('0' + year / 1000);
+        buf[1] = (char) ('0' + year / 100 % 10);
+        buf[2] = (char) ('0' + year / 10 % 10);
+        buf[3] = (char) ('0' + year % 10);
+        buf[4] = '-';
+        put2(buf, 5, date.getMonthValue());
+        buf[7] = '-';
+        put2(buf, 8, date.getDayOfMonth());
+        if (time != null) {
+            buf[10] = 'T';
+            put2(buf, 11, time.getHour());
+            buf[13] = ':';
+            put2(buf, 14, time.getMinute());
+            buf[16] = ':';
+            put2(buf, 17, time.getSecond());
+        }
+        return new String(buf);
+    }
+
+    private static void put2(char[] buf, int pos, int value) {
+        buf[pos] = (char) ('0' + value / 10);
+        buf[pos + 1] = (char) ('0' + value % 10);
+    }
+}
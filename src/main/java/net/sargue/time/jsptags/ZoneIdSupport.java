@@ -96,8 +96,9 @@ public abstract class ZoneIdSupport extends BodyTagSupport {
      * If the given action is nested inside a &lt;zoneId&gt; action,
      * the time zone is taken from the enclosing &lt;zoneId&gt; action.
      * <p>
-     * Otherwise, the time zone configuration setting
-     * <tt>net.sargue.time.jsptags.ZoneIdSupport.FMT_TIME_ZONE</tt> is used.
+     * Otherwise, the time zone of the first {@link ZoneLocaleResolver}
+     * resolving one is used and, failing that, the time zone configuration
+     * setting <tt>net.sargue.time.jsptags.ZoneIdSupport.FMT_TIME_ZONE</tt>.
      * 
      * @param pc  the page containing the action for which the time zone
      *  needs to be determined
@@ -115,7 +116,7 @@ public abstract class ZoneIdSupport extends BodyTagSupport {
             // use time zone from parent <timeZone> tag
             ZoneIdSupport parent = (ZoneIdSupport) t;
             tz = parent.getZoneId();
-        } else {
+        } else if ((tz = Util.resolveZoneId(pc)) == null) {
             // get time zone from configuration setting
             Object obj = Config.find(pc, FMT_TIME_ZONE);
             if (obj != null) {
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.PageContext;
+
+import java.time.ZoneId;
+import java.util.Locale;
+
+/**
+ * <p>
+ * Service provider interface to resolve the time zone and the formatting
+ * locale of a page, for instance per tenant in multi-tenant deployments.
+ * </p>
+ * <p>
+ * Implementations are found with {@link java.util.ServiceLoader}, listing
+ * them in <tt>META-INF/services/net.sargue.time.jsptags.ZoneLocaleResolver</tt>.
+ * They are consulted in order before the configuration settings and the
+ * first non null result is used. The zone of an enclosing
+ * &lt;zoneId&gt; tag still takes precedence.
+ * </p>
+ * <p>
+ * Resolvers are called by every tag needing a locale or a time zone, so they
+ * should be fast and thread safe, returning cached <tt>ZoneId</tt> and
+ * <tt>Locale</tt> instances looked up from request data.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+public interface ZoneLocaleResolver {
+
+    /**
+     * Resolves the time zone for the page.
+     *
+     * @param pc the page context
+     * @return the time zone, or <tt>null</tt> to use the configuration settings
+     */
+    default ZoneId resolveZoneId(PageContext pc) {
+        return null;
+    }
+
+    /**
+     * Resolves the formatting locale for the page.
+     *
+     * @param pc the page context
+     * @return the locale, or <tt>null</tt> to use the configuration settings
+     */
+    default Locale resolveLocale(PageContext pc) {
+        return null;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * The offsets of the region time zones, cached with the period in which they
+ * are valid.
+ * </p>
+ * <p>
+ * Getting the offset of a region for an instant searches the transitions of
+ * its rules. The offset only changes at a transition, so the offset found can
+ * be remembered with the window from the previous transition to the next one,
+ * and any instant inside the window gets it without a search. A
+ * <tt>ZoneOffset</tt> is its own offset and is never looked up.
+ * </p>
+ * <p>
+ * Each zone keeps a few windows, one for each bucket of about seven weeks
+ * (2<sup>22</sup> seconds) modulo the number of slots, and a window is stored
+ * in the slots of all the buckets it covers. Instants of a few periods of the
+ * same zone, or concurrent requests for different periods, do not evict each
+ * other. Building a window costs several lookups, so the first misses in a
+ * bucket get the offset from the rules, and only the fourth one builds the
+ * window. Instants spread over many years thus cost about a plain lookup, and
+ * instants close to each other are served from the windows.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+final class ZoneOffsetCache {
+
+    /** The bits of the seconds from the epoch below a bucket. */
+    private static final int BUCKET_BITS = 22;
+
+    /** The number of windows of each zone, a power of two. */
+    private static final int SLOTS = 16;
+
+    /** The misses in the same bucket that get a window built. */
+    private static final int MISSES = 4;
+
+    /** A bucket number that no instant has. */
+    private static final long NO_BUCKET = Long.MIN_VALUE;
+
+    private static final ConcurrentMap<ZoneId, Zone> cache =
+            new ConcurrentHashMap<>();
+
+    private ZoneOffsetCache() {
+    }
+
+    /**
+     * Gets the offset of a time zone at an instant.
+     *
+     * @param zoneId the time zone
+     * @param epochSecond the instant, as seconds from the epoch
+     * @return the offset
+     */
+    static ZoneOffset offsetAt(ZoneId zoneId, long epochSecond) {
+        if (zoneId instanceof ZoneOffset) {
+            return (ZoneOffset) zoneId;
+        }
+        Zone zone = cache.get(zoneId);
+        if (zone == null) {
+            zone = cache.computeIfAbsent(zoneId, Zone::new);
+        }
+        return zone.offsetAt(epochSecond);
+    }
+
+    /*
+     * The rules of a zone and its windows. The slots are read and written
+     * without locks: windows are immutable, and a lost update only costs
+     * another lookup.
+     */
+    private static final class Zone {
+        final ZoneRules rules;
+        final Window[] windows = new Window[SLOTS];
+        final long[] missedBuckets = new long[SLOTS];
+        final int[] misses = new int[SLOTS];
+
+        Zone(ZoneId zoneId) {
+            rules = zoneId.getRules();
+            Arrays.fill(missedBuckets, NO_BUCKET);
+        }
+
+        ZoneOffset offsetAt(long epochSecond) {
+            long bucket = epochSecond >> BUCKET_BITS;
+            int slot = (int) bucket & (SLOTS - 1);
+            Window window = windows[slot];
+            if (window != null && epochSecond >= window.from && epochSecond < window.until) {
+                return window.offset;
+            }
+            if (missedBuckets[slot] != bucket) {
+                missedBuckets[slot] = bucket;
+                misses[slot] = 1;
+                return rules.getOffset(Instant.ofEpochSecond(epochSecond));
+            }
+            if (++misses[slot] < MISSES) {
+                // a window costs several lookups, do not pay for it yet
+                return rules.getOffset(Instant.ofEpochSecond(epochSecond));
+            }
+            window = new Window(rules, epochSecond);
+            // the window serves every bucket it covers, up to a slot each
+            long first = Math.max(window.from >> BUCKET_BITS, bucket - SLOTS / 2 + 1);
+            long last = Math.min((window.until - 1) >> BUCKET_BITS, first + SLOTS - 1);
+            for (long b = first; b <= last; b++) {
+                windows[(int) b & (SLOTS - 1)] = window;
+            }
+            return window.offset;
+        }
+    }
+
+    /*
+     * An offset and the seconds from the epoch in which it is valid, from
+     * (inclusive) until (exclusive).
+     */
+    private static final class Window {
+        final long from;
+        final long until;
+        final ZoneOffset offset;
+
+        Window(ZoneRules rules, long epochSecond) {
+            Instant instant = Instant.ofEpochSecond(epochSecond);
+            offset = rules.getOffset(instant);
+            if (rules.isFixedOffset()) {
+                from = Long.MIN_VALUE;
+                until = Long.MAX_VALUE;
+                return;
+            }
+            ZoneOffsetTransition previous = rules.previousTransition(instant);
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+            long start = previous == null ? Long.MIN_VALUE : previous.toEpochSecond();
+            if (previous != null && !previous.getOffsetAfter().equals(offset)) {
+                // the instant is exactly at a transition after the previous one
+                start = epochSecond;
+            }
+            from = start;
+            until = next == null ? Long.MAX_VALUE : next.toEpochSecond();
+        }
+    }
+}
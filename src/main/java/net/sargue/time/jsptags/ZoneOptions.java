@@ -0,0 +1,260 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.TextStyle;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * The <tt>&lt;option&gt;</tt> elements of a time zone picker for a locale,
+ * rendered once and cached.
+ * </p>
+ * <p>
+ * The options are the geographical time zones, sorted by their current
+ * offset and then by label, labelled like
+ * <tt>(UTC+01:00) Central European Time - Madrid</tt>. As the offsets change
+ * with daylight saving time, the options are only valid until the first
+ * transition of any of the zones, and they are rendered again after it.
+ * Only one thread renders the options of a locale, the ones asking for them
+ * meanwhile wait for its result. The rendering is a task of its own, run
+ * outside of the map, so it does not block the other locales.
+ * </p>
+ * <p>
+ * The cache is keyed by the available locales of <tt>DateFormat</tt>, which
+ * bounds it: any other locale, as one given by the page, gets the options
+ * of the nearest available one, without its variant or country or, at
+ * last, of the root locale.
+ * </p>
+ * <p>
+ * The markup of all the options is kept in a single string, with the
+ * position of the value of each option, so the selected option is marked
+ * while writing it.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+final class ZoneOptions {
+
+    /** The zones included, the ones of the geographical regions and UTC. */
+    private static final Pattern REGION = Pattern.compile(
+            "(Africa|America|Antarctica|Arctic|Asia|Atlantic|Australia|Europe|Indian|Pacific)/.+|UTC");
+
+    private static final String SELECTED = " selected";
+
+    /** The locales with cached options. */
+    private static final Set<Locale> AVAILABLE =
+            new HashSet<>(Arrays.asList(Util.availableDateLocales));
+
+    private static final ConcurrentMap<Locale, FutureTask<ZoneOptions>> cache =
+            new ConcurrentHashMap<>();
+
+    /** The markup of all the options. */
+    private final String markup;
+
+    /** The position of the end of the value of each option, by zone id. */
+    private final Map<String, Integer> positions;
+
+    /** The instant from which the offsets are no longer valid. */
+    final Instant validUntil;
+
+    private ZoneOptions(Locale locale, Instant now) {
+        List<Option> options = new ArrayList<>();
+        Instant validUntil = Instant.MAX;
+        for (String id : ZoneId.getAvailableZoneIds()) {
+            if (!REGION.matcher(id).matches()) {
+                continue;
+            }
+            ZoneId zone = ZoneId.of(id);
+            ZoneRules rules = zone.getRules();
+            ZoneOffsetTransition next = rules.nextTransition(now);
+            if (next != null && next.getInstant().isBefore(validUntil)) {
+                validUntil = next.getInstant();
+            }
+            options.add(new Option(id, rules.getOffset(now), label(zone, locale)));
+        }
+        options.sort(Comparator.comparingInt((Option o) -> o.offset.getTotalSeconds())
+                               .thenComparing(o -> o.label));
+
+        StringBuilder sb = new StringBuilder(options.size() * 96);
+        Map<String, Integer> positions = new HashMap<>(options.size() * 2);
+        for (Option option : options) {
+            sb.append("<option value=\"");
+            Util.escapeXml(option.id, sb);
+            sb.append('"');
+            positions.put(option.id, sb.length());
+            sb.append(">(UTC");
+            if (option.offset.getTotalSeconds() != 0) {
+                sb.append(option.offset.getId());
+            }
+            sb.append(") ");
+            Util.escapeXml(option.label, sb);
+            sb.append("</option>");
+        }
+        this.markup = sb.toString();
+        this.positions = positions;
+        this.validUntil = validUntil;
+    }
+
+    /**
+     * Gets the options for a locale, rendering them again if a transition
+     * has passed since they were rendered.
+     *
+     * @param locale the locale
+     * @param now the current instant
+     * @return the options
+     */
+    static ZoneOptions forLocale(Locale locale, Instant now) {
+        Locale key = available(locale);
+        if (key == null) {
+            return new ZoneOptions(locale, now);
+        }
+        FutureTask<ZoneOptions> task = cache.get(key);
+        while (true) {
+            if (task == null) {
+                FutureTask<ZoneOptions> render = new FutureTask<>(() -> new ZoneOptions(key, now));
+                task = cache.putIfAbsent(key, render);
+                if (task == null) {
+                    task = render;
+                    render.run();
+                }
+            }
+            ZoneOptions options = await(key, task);
+            if (now.isBefore(options.validUntil)) {
+                return options;
+            }
+            // outdated, render them again unless another thread already does
+            FutureTask<ZoneOptions> render = new FutureTask<>(() -> new ZoneOptions(key, now));
+            if (cache.replace(key, task, render)) {
+                render.run();
+                task = render;
+            } else {
+                task = cache.get(key);
+            }
+        }
+    }
+
+    /*
+     * The result of a rendering task, removing it from the cache if it
+     * failed so the next request renders the options again.
+     */
+    private static ZoneOptions await(Locale key, FutureTask<ZoneOptions> task) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return task.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    cache.remove(key, task);
+                    Throwable cause = e.getCause();
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw (RuntimeException) cause;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /*
+     * The available locale nearest to a locale, or null if not even the
+     * root locale is available.
+     */
+    private static Locale available(Locale locale) {
+        if (AVAILABLE.contains(locale)) {
+            return locale;
+        }
+        Locale candidate = new Locale(locale.getLanguage(), locale.getCountry());
+        if (AVAILABLE.contains(candidate)) {
+            return candidate;
+        }
+        candidate = new Locale(locale.getLanguage());
+        if (AVAILABLE.contains(candidate)) {
+            return candidate;
+        }
+        return AVAILABLE.contains(Locale.ROOT) ? Locale.ROOT : null;
+    }
+
+    /**
+     * Writes the options, marking one as selected.
+     *
+     * @param out the output
+     * @param selected the id of the selected zone, or <tt>null</tt>
+     * @throws IOException if the output fails
+     */
+    void writeTo(Writer out, String selected) throws IOException {
+        Integer position = selected == null ? null : positions.get(selected);
+        if (position == null) {
+            out.write(markup);
+        } else {
+            int pos = position;
+            out.write(markup, 0, pos);
+            out.write(SELECTED);
+            out.write(markup, pos, markup.length() - pos);
+        }
+    }
+
+    /*
+     * The generic name of the zone followed by the city of its id.
+     */
+    private static String label(ZoneId zone, Locale locale) {
+        String id = zone.getId();
+        String name = zone.getDisplayName(TextStyle.FULL, locale);
+        int slash = id.lastIndexOf('/');
+        if (slash < 0) {
+            return name;
+        }
+        return name + " - " + id.substring(slash + 1).replace('_', ' ');
+    }
+
+    private static final class Option {
+        final String id;
+        final ZoneOffset offset;
+        final String label;
+
+        Option(String id, ZoneOffset offset, String label) {
+            this.id = id;
+            this.offset = offset;
+            this.label = label;
+        }
+    }
+}
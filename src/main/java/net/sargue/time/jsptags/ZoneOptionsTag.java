@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.sargue.time.jsptags;
+
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
+import jakarta.servlet.jsp.tagext.TagSupport;
+
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.Locale;
+
+/**
+ * <p>
+ * A handler for &lt;zoneOptions&gt; that writes the <tt>&lt;option&gt;</tt>
+ * elements of a time zone picker, to be used inside a <tt>&lt;select&gt;</tt>.
+ * </p>
+ * <p>
+ * The options of each locale are rendered once and cached (see
+ * {@link ZoneOptions}); only the selected option is marked on each request.
+ * Without the selected attribute, the time zone of the page, if any, is
+ * selected.
+ * </p>
+ *
+ * @author Sergi Baila
+ */
+@SuppressWarnings("UnusedDeclaration")
+public class ZoneOptionsTag extends TagSupport {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The selected attribute. */
+    private String selected;
+    /** The locale attribute. */
+    private Locale locale;
+
+    /**
+     * Constructor.
+     */
+    public ZoneOptionsTag() {
+        super();
+        init();
+    }
+
+    private void init() {
+        selected = null;
+        locale = null;
+    }
+
+    /**
+     * Sets the selected attribute.
+     *
+     * @param selected the selected zone, a <tt>ZoneId</tt> or a
+     *                 <tt>String</tt>
+     * @throws JspTagException if the object is not supported
+     */
+    public void setSelected(Object selected) throws JspTagException {
+        if (selected == null) {
+            this.selected = null;
+        } else if (selected instanceof ZoneId) {
+            this.selected = ((ZoneId) selected).getId();
+        } else if (selected instanceof String) {
+            this.selected = (String) selected;
+        } else
+            throw new JspTagException("Can only accept ZoneId or String objects.");
+    }
+
+    /**
+     * Sets the locale attribute.
+     *
+     * @param loc the locale, a <tt>Locale</tt> or a <tt>String</tt>
+     * @throws JspTagException if the object is not supported
+     */
+    public void setLocale(Object loc) throws JspTagException {
+        if (loc == null) {
+            this.locale = null;
+        } else if (loc instanceof Locale) {
+            this.locale = (Locale) loc;
+        } else if (loc instanceof String) {
+            this.locale = Util.parseLocale((String) loc);
+        } else
+            throw new JspTagException("Can only accept Locale or String objects.");
+    }
+
+    @Override
+    public int doEndTag() throws JspException {
+        Locale locale = this.locale;
+        if (locale == null) {
+            locale = Util.getFormattingLocale(pageContext, true,
+                                              Util.availableDateLocales);
+            if (locale == null) {
+                locale = Locale.getDefault(Locale.Category.FORMAT);
+            }
+        }
+        String selected = this.selected;
+        if (selected == null) {
+            ZoneId zoneId = ZoneIdSupport.getZoneId(pageContext, this);
+            if (zoneId != null) {
+                selected = zoneId.getId();
+            }
+        }
+
+        ZoneOptions options = ZoneOptions.forLocale(locale,
+                                                    Util.getRequestInstant(pageContext));
+        try {
+            options.writeTo(pageContext.getOut(), selected);
+        } catch (IOException ioe) {
+            throw new JspTagException(ioe.toString(), ioe);
+        }
+        return EVAL_PAGE;
+    }
+
+    // Releases any resources we may have (or inherit)
+    @Override
+    public void release() {
+        init();
+    }
+}
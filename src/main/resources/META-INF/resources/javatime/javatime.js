@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026 Sergi Baila
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * Formats the <time> elements written by <javatime:format mode="client">
+ * using Intl.DateTimeFormat. Served from the library jar at
+ * /javatime/javatime.js.
+ *
+ * Styles are fully supported. Patterns support the letters y u M L d E H h
+ * k K m s S a and the zone names z v; an element with any other letter keeps
+ * its content, which is the server fallback if one was rendered.
+ *
+ * Local values keep their fields. With a time zone, they are formatted as
+ * the instant with those fields in the zone, so zone names and offsets are
+ * the ones of the server; without one, they are formatted in UTC.
+ *
+ * Elements added later can be formatted with javatime.format(root).
+ */
+(function (global) {
+    'use strict';
+
+    var STYLES = { S: 'short', M: 'medium', L: 'long', F: 'full' };
+    var LOCAL = /^([-+]?\d{4,})(?:-(\d\d)(?:-(\d\d))?)?(?:T(\d\d):(\d\d)(?::(\d\d)(?:\.(\d{1,9}))?)?)?$/;
+    var TIME = /^(\d\d):(\d\d)(?::(\d\d)(?:\.(\d{1,9}))?)?$/;
+    var DAY = 86400000;
+    var cache = {};
+
+    function formatter(locale, options) {
+        var key = locale + '|' + JSON.stringify(options);
+        return cache[key] || (cache[key] = new Intl.DateTimeFormat(locale, options));
+    }
+
+    function part(locale, options, date, type) {
+        var parts = formatter(locale, options).formatToParts(date);
+        for (var i = 0; i < parts.length; i++) {
+            if (parts[i].type === type) {
+                return parts[i].value;
+            }
+        }
+        return '';
+    }
+
+    function pad(value, width) {
+        value = String(value);
+        while (value.length < width) {
+            value = '0' + value;
+        }
+        return value;
+    }
+
+    // Parses the datetime attribute; local values are represented in UTC
+    function parse(iso) {
+        var m;
+        if (/Z$/.test(iso)) {
+            return { date: new Date(iso), local: false };
+        }
+        if ((m = LOCAL.exec(iso))) {
+            var date = new Date(Date.UTC(2000, (m[2] || 1) - 1, m[3] || 1,
+                                         m[4] || 0, m[5] || 0, m[6] || 0,
+                                         m[7] ? +(m[7] + '00').substring(0, 3) : 0));
+            date.setUTCFullYear(+m[1]);
+            return { date: date, local: true };
+        }
+        if ((m = TIME.exec(iso))) {
+            return { date: new Date(Date.UTC(1970, 0, 1, +m[1], +m[2], +(m[3] || 0),
+                                             m[4] ? +(m[4] + '00').substring(0, 3) : 0)),
+                     local: true };
+        }
+        return null;
+    }
+
+    // The offset of a time zone at an instant, in milliseconds
+    function offset(zone, time) {
+        var parts = formatter('en-US', {
+            timeZone: zone, hourCycle: 'h23', year: 'numeric', month: 'numeric',
+            day: 'numeric', hour: 'numeric', minute: 'numeric', second: 'numeric'
+        }).formatToParts(new Date(time));
+        var fields = {};
+        for (var i = 0; i < parts.length; i++) {
+            fields[parts[i].type] = +parts[i].value;
+        }
+        var wall = new Date(Date.UTC(2000, fields.month - 1, fields.day,
+                                     fields.hour, fields.minute, fields.second));
+        wall.setUTCFullYear(fields.year);
+        return wall.getTime() - Math.floor(time / 1000) * 1000;
+    }
+
+    // Whether Intl knows a time zone; older engines reject offsets like +01:00
+    function zoned(zone) {
+        try {
+            formatter('en-US', { timeZone: zone });
+            return true;
+        } catch (e) {
+            return false;
+        }
+    }
+
+    // The instant with the fields of a local value in a time zone. As in
+    // java.time, an overlap takes the earlier offset and a gap moves the
+    // value forward by its length.
+    function atZone(date, zone) {
+        var local = date.getTime();
+        var before = offset(zone, local - DAY);
+        var after = offset(zone, local + DAY);
+        if (before !== after && offset(zone, local - before) !== before) {
+            return new Date(local - (offset(zone, local - after) === after ? after : before));
+        }
+        return new Date(local - before);
+    }
+
+    // Formats one run of pattern letters, or returns null if not supported
+    function field(letter, count, date, locale, zone) {
+        function zoned(options) {
+            options.timeZone = zone;
+            return options;
+        }
+        var number;
+        switch (letter) {
+            case 'y': case 'u':
+                number = date.getUTCFullYear();
+                if (zone !== 'UTC') {
+                    number = +part('en-US', zoned({ year: 'numeric' }), date, 'year');
+                }
+                return count === 2 ? pad(number % 100, 2) : pad(number, count);
+            case 'M': case 'L':
+                if (count >= 3) {
+                    return part(locale, zoned({ month: ['short', 'long', 'narrow'][count - 3] || 'long' }),
+                                date, 'month');
+                }
+                return pad(+part('en-US', zoned({ month: 'numeric' }), date, 'month'), count);
+            case 'd':
+                return pad(+part('en-US', zoned({ day: 'numeric' }), date, 'day'), count);
+            case 'E':
+                return part(locale, zoned({ weekday: count === 4 ? 'long' : count === 5 ? 'narrow' : 'short' }),
+                            date, 'weekday');
+            case 'H': case 'k': case 'h': case 'K':
+                number = +part('en-US', zoned({ hour: 'numeric', hourCycle: 'h23' }), date, 'hour');
+                if (letter === 'k' && number === 0) {
+                    number = 24;
+                } else if (letter === 'h') {
+                    number = number % 12 || 12;
+                } else if (letter === 'K') {
+                    number = number % 12;
+                }
+                return pad(number, count);
+            case 'm':
+                return pad(+part('en-US', zoned({ minute: 'numeric' }), date, 'minute'), count);
+            case 's':
+                return pad(date.getUTCSeconds(), count);
+            case 'S':
+                return (pad(date.getUTCMilliseconds(), 3) + '000000').substring(0, count);
+            case 'a':
+                return part(locale, zoned({ hour: 'numeric', hour12: true }), date, 'dayPeriod');
+            case 'z': case 'v':
+                return part(locale, zoned({ timeZoneName: count === 4 ? 'long' : 'short' }),
+                            date, 'timeZoneName');
+        }
+        return null;
+    }
+
+    function formatPattern(pattern, date, locale, zone) {
+        var out = '';
+        for (var i = 0; i < pattern.length; i++) {
+            var c = pattern.charAt(i);
+            if (c === '\'') {
+                var end = pattern.indexOf('\'', i + 1);
+                if (end < 0) {
+                    end = pattern.length;
+                }
+                out += end === i + 1 ? '\'' : pattern.substring(i + 1, end);
+                i = end;
+            } else if (/[A-Za-z]/.test(c)) {
+                var count = 1;
+                while (pattern.charAt(i + 1) === c) {
+                    count++;
+                    i++;
+                }
+                var text = field(c, count, date, locale, zone);
+                if (text === null) {
+                    return null;
+                }
+                out += text;
+            } else if (c !== '[' && c !== ']') {
+                out += c;
+            }
+        }
+        return out;
+    }
+
+    function formatStyle(style, date, locale, zone) {
+        var options = { timeZone: zone };
+        if (STYLES[style.charAt(0)]) {
+            options.dateStyle = STYLES[style.charAt(0)];
+        }
+        if (STYLES[style.charAt(1)]) {
+            options.timeStyle = STYLES[style.charAt(1)];
+        }
+        return formatter(locale, options).format(date);
+    }
+
+    function formatElement(element) {
+        var value = parse(element.getAttribute('datetime'));
+        if (!value) {
+            return;
+        }
+        var locale = element.getAttribute('data-javatime-locale') || undefined;
+        var zone = element.getAttribute('data-javatime-zone') || undefined;
+        var pattern = element.getAttribute('data-javatime-pattern');
+        var date = value.date;
+        var text;
+        try {
+            if (!value.local) {
+                // formatted in the zone as is
+            } else if (zone && date.getUTCFullYear() > 0 && zoned(zone)) {
+                date = atZone(date, zone);
+            } else {
+                zone = 'UTC';
+            }
+            text = pattern !== null
+                ? formatPattern(pattern, date, locale, zone)
+                : formatStyle(element.getAttribute('data-javatime-style') || 'M-',
+                              date, locale, zone);
+        } catch (e) {
+            text = null;
+        }
+        if (text !== null) {
+            element.textContent = text;
+        }
+    }
+
+    function format(root) {
+        var elements = (root || document).querySelectorAll(
+            'time[data-javatime-style], time[data-javatime-pattern]');
+        for (var i = 0; i < elements.length; i++) {
+            formatElement(elements[i]);
+        }
+    }
+
+    global.javatime = { format: format };
+
+    if (document.readyState === 'loading') {
+        document.addEventListener('DOMContentLoaded', function () {
+            format();
+        });
+    } else {
+        format();
+    }
+})(this);
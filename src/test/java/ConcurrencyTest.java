@@ -0,0 +1,87 @@
+import jakarta.servlet.jsp.JspException;
+import net.sargue.time.jsptags.FormatTag;
+import net.sargue.time.jsptags.ParseLocalDateTag;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockPageContext;
+import org.springframework.mock.web.MockServletContext;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Concurrent requests with distinct locales and time zones must not see each
+ * other through the state the tags share. The full harness, with virtual
+ * threads and throughput figures, is <tt>StressHarness</tt> of the
+ * benchmarks.
+ *
+ * @author Sergi Baila
+ */
+public class ConcurrencyTest {
+
+    private static final String PATTERN = "EEEE d MMMM yyyy HH:mm";
+    private static final String[] LOCALES = {"en-US", "es-ES", "fr-CA", "de-DE", "ja-JP"};
+    private static final String[] ZONES = {"Europe/Madrid", "America/New_York", "Asia/Tokyo",
+                                           "Australia/Sydney"};
+
+    private final MockServletContext mockServletContext = new MockServletContext();
+
+    private String request(Locale locale, ZoneId zone, Instant instant) throws JspException {
+        MockPageContext mockPageContext = new MockPageContext(mockServletContext);
+        ((MockHttpServletRequest) mockPageContext.getRequest()).addPreferredLocale(locale);
+
+        FormatTag format = new FormatTag();
+        format.setPageContext(mockPageContext);
+        format.setPattern(PATTERN);
+        format.setZoneId(zone);
+        format.setValue(instant);
+        format.setVar("formatted");
+        format.doEndTag();
+
+        ParseLocalDateTag parse = new ParseLocalDateTag();
+        parse.setPageContext(mockPageContext);
+        parse.setPattern("d MMMM yyyy");
+        parse.setValue(DateTimeFormatter.ofPattern("d MMMM yyyy", locale)
+                                        .format(LocalDate.ofInstant(instant, zone)));
+        parse.setCache(true);
+        parse.setVar("parsed");
+        parse.doEndTag();
+
+        return mockPageContext.getAttribute("formatted") + " / "
+               + mockPageContext.getAttribute("parsed");
+    }
+
+    @Test
+    public void concurrentRequests() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            List<String> expected = new ArrayList<>();
+            Instant instant = Instant.parse("2015-01-06T09:45:00Z");
+            for (int i = 0; i < 2_000; i++) {
+                Locale locale = Locale.forLanguageTag(LOCALES[i % LOCALES.length]);
+                ZoneId zone = ZoneId.of(ZONES[i % ZONES.length]);
+                Instant value = instant.plusSeconds(86_461L * (i % 400));
+                expected.add(DateTimeFormatter.ofPattern(PATTERN, locale).withZone(zone).format(value)
+                             + " / " + LocalDate.ofInstant(value, zone));
+                results.add(executor.submit((Callable<String>) () -> request(locale, zone, value)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(expected.get(i), results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
+import net.sargue.time.jsptags.DisplayNamesTag;
+import net.sargue.time.jsptags.Functions;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockPageContext;
+import org.springframework.mock.web.MockServletContext;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Month and day of week names tests.
+ *
+ * @author Sergi Baila
+ */
+public class DisplayNamesTagTest {
+
+    private MockPageContext mockPageContext;
+
+    @Before
+    public void setup() {
+        Locale.setDefault(Locale.forLanguageTag("ca"));
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+        mockPageContext = new MockPageContext(new MockServletContext());
+    }
+
+    @Test
+    public void weekdayTest() throws JspException {
+        assertEquals(Arrays.asList("Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat"),
+                     names("weekday", "short", Locale.US));
+        assertEquals(Arrays.asList("Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"),
+                     names("weekday", "short", Locale.UK));
+        assertEquals("lunes", names("weekday", null, new Locale("es", "ES")).get(0));
+    }
+
+    @Test
+    public void monthTest() throws JspException {
+        List<String> months = names("month", "full", Locale.US);
+        assertEquals(12, months.size());
+        assertEquals("January", months.get(0));
+        assertEquals("December", months.get(11));
+        assertEquals("nov", names("month", "SHORT_STANDALONE", new Locale("es")).get(10));
+    }
+
+    @Test
+    public void negotiatedLocaleTest() throws JspException {
+        ((MockHttpServletRequest) mockPageContext.getRequest()).addPreferredLocale(new Locale("es"));
+        assertEquals("enero", names("month", null, null).get(0));
+        assertEquals(new Locale("es"), mockPageContext.getResponse().getLocale());
+    }
+
+    @Test
+    public void functionsTest() throws JspException {
+        // cached lists are shared
+        assertSame(names("month", "short", Locale.UK), Functions.monthNames("short", "en-GB"));
+        assertEquals("Mon", Functions.weekdayNames("short", Locale.UK).get(0));
+        assertEquals("dilluns", Functions.weekdayNames(null, "ca-ES").get(0));
+        assertEquals("gener", Functions.monthNames("full_standalone", null).get(0));
+    }
+
+    @Test
+    public void manyLocalesTest() {
+        // more locales than the cache holds, from every country
+        for (String country : Locale.getISOCountries()) {
+            assertEquals("January", Functions.monthNames(null, "en-" + country).get(0));
+            assertEquals("enero", Functions.monthNames(null, "es-" + country).get(0));
+        }
+        assertEquals("Mon", Functions.weekdayNames("short", Locale.UK).get(0));
+        assertEquals("Sun", Functions.weekdayNames("short", Locale.US).get(0));
+    }
+
+    @Test(expected = JspTagException.class)
+    public void invalidStyleTest() throws JspException {
+        names("month", "medium", Locale.US);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> names(String field, String style, Locale locale) throws JspException {
+        DisplayNamesTag displayNamesTag = new DisplayNamesTag();
+        displayNamesTag.setPageContext(mockPageContext);
+        displayNamesTag.setField(field);
+        displayNamesTag.setStyle(style);
+        displayNamesTag.setLocale(locale);
+        displayNamesTag.setVar("names");
+        displayNamesTag.doEndTag();
+        return (List<String>) mockPageContext.getAttribute("names");
+    }
+}
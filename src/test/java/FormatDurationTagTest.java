@@ -0,0 +1,103 @@
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
+import net.sargue.time.jsptags.FormatDurationTag;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockPageContext;
+import org.springframework.mock.web.MockServletContext;
+
+import java.io.UnsupportedEncodingException;
+import java.time.Duration;
+import java.time.Period;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Duration format tests.
+ *
+ * @author Sergi Baila
+ */
+public class FormatDurationTagTest {
+
+    private MockPageContext mockPageContext;
+
+    @Before
+    public void setup() throws UnsupportedEncodingException {
+        Locale.setDefault(Locale.forLanguageTag("ca"));
+        mockPageContext = new MockPageContext(new MockServletContext());
+        mockPageContext.getResponse().setCharacterEncoding("UTF-8");
+    }
+
+    @Test
+    public void compactTest() throws JspException, UnsupportedEncodingException {
+        assertEquals("1h 05m", format(Duration.ofMinutes(65), null, "en"));
+        assertEquals("1d 02h", format(Duration.ofHours(26).plusMinutes(3), null, "en"));
+        assertEquals("3m 07s", format(Duration.ofSeconds(187), "compact", "en"));
+        assertEquals("0s", format(Duration.ofMillis(999), null, "en"));
+        assertEquals("-1h 05min", format(Duration.ofMinutes(-65), null, "es"));
+        assertEquals("1y 02mo", format(Period.of(1, 2, 3), null, "en"));
+        assertEquals("14mes 00d", format(Period.ofMonths(14), null, "ca"));
+    }
+
+    @Test
+    public void clockTest() throws JspException, UnsupportedEncodingException {
+        assertEquals("01:05:00", format(Duration.ofMinutes(65), "clock", null));
+        assertEquals("100:00:09", format(Duration.ofHours(100).plusSeconds(9), "clock", null));
+        assertEquals("-00:00:01", format(Duration.ofMillis(-1500), "clock", null));
+    }
+
+    @Test
+    public void minimumTest() throws JspException, UnsupportedEncodingException {
+        // Long.MIN_VALUE seconds has no positive magnitude
+        Duration minimum = Duration.ofSeconds(Long.MIN_VALUE);
+        assertEquals("-2562047788015215:30:08", format(minimum, "clock", null));
+        assertEquals("-106751991167300d 15h", format(minimum, null, "en"));
+        assertEquals("-2562047788015215:30:07", format(minimum.plusMillis(500), "clock", null));
+        assertEquals("-2147483648y 00mo", format(Period.ofYears(Integer.MIN_VALUE), null, "en"));
+    }
+
+    @Test
+    public void isoTest() throws JspException, UnsupportedEncodingException {
+        assertEquals("PT1H5M", format(Duration.ofMinutes(65), "iso", null));
+        assertEquals("P1Y2M3D", format(Period.of(1, 2, 3), "iso", null));
+    }
+
+    @Test
+    public void printTest() throws JspException, UnsupportedEncodingException {
+        FormatDurationTag formatDurationTag = new FormatDurationTag();
+        formatDurationTag.setPageContext(mockPageContext);
+        formatDurationTag.setValue(Duration.ofSeconds(3725));
+        formatDurationTag.setStyle("clock");
+        formatDurationTag.doEndTag();
+        assertEquals("01:02:05", mockPageContext.getContentAsString());
+    }
+
+    @Test(expected = JspException.class)
+    public void invalidStyleTest() throws JspException, UnsupportedEncodingException {
+        format(Duration.ofMinutes(65), "MS", null);
+    }
+
+    @Test
+    public void mixedSignTest() throws JspException, UnsupportedEncodingException {
+        assertEquals("-1mo 03d", format(Period.of(0, -1, -3), null, "en"));
+        // the iso style has a sign for each unit
+        assertEquals("P1M-3D", format(Period.of(0, 1, -3), "iso", null));
+    }
+
+    @Test(expected = JspTagException.class)
+    public void mixedSignCompactTest() throws JspException, UnsupportedEncodingException {
+        format(Period.of(0, 1, -3), null, "en");
+    }
+
+    private String format(Object value, String style, String locale) throws JspException {
+        FormatDurationTag formatDurationTag = new FormatDurationTag();
+        formatDurationTag.setPageContext(mockPageContext);
+        formatDurationTag.setValue(value);
+        formatDurationTag.setStyle(style);
+        formatDurationTag.setLocale(locale);
+        formatDurationTag.setVar("formatted");
+        formatDurationTag.doEndTag();
+        return (String) mockPageContext.getAttribute("formatted");
+    }
+}
@@ -0,0 +1,77 @@
+import jakarta.servlet.jsp.JspException;
+import net.sargue.time.jsptags.FormatListTag;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockPageContext;
+import org.springframework.mock.web.MockServletContext;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Bulk format tests.
+ *
+ * @author Sergi Baila
+ */
+public class FormatListTagTest {
+
+    private MockPageContext mockPageContext;
+    private FormatListTag formatListTag;
+
+    @Before
+    public void setup() {
+        Locale.setDefault(Locale.forLanguageTag("ca"));
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+        mockPageContext = new MockPageContext(new MockServletContext());
+        formatListTag = new FormatListTag();
+        formatListTag.setPageContext(mockPageContext);
+        formatListTag.setVar("labels");
+    }
+
+    @Test
+    public void arrayTest() throws JspException {
+        formatListTag.setPattern("dd/MM/yyyy");
+        formatListTag.setValue(new TemporalAccessor[] {
+                LocalDate.of(2015, 11, 6), null, Instant.parse("2015-11-06T23:30:00Z") });
+        formatListTag.doEndTag();
+        assertArrayEquals(new String[] { "06/11/2015", null, "07/11/2015" },
+                (String[]) mockPageContext.getAttribute("labels"));
+    }
+
+    @Test
+    public void parallelListTest() throws JspException {
+        List<Instant> instants = new ArrayList<>();
+        String[] expected = new String[10000];
+        Instant start = Instant.parse("2015-11-06T09:45:33Z");
+        for (int i = 0; i < expected.length; i++) {
+            Instant instant = start.plus(i, ChronoUnit.MINUTES);
+            instants.add(instant);
+            expected[i] = instant.toString().substring(0, 16);
+        }
+        formatListTag.setPattern("yyyy-MM-dd'T'HH:mm");
+        formatListTag.setZoneId("UTC");
+        formatListTag.setThreshold(100);
+        formatListTag.setValue(instants);
+        formatListTag.doEndTag();
+        assertEquals(Arrays.asList(expected), mockPageContext.getAttribute("labels"));
+    }
+
+    @Test
+    public void nullValueTest() throws JspException {
+        mockPageContext.setAttribute("labels", "previous");
+        formatListTag.setValue(null);
+        formatListTag.doEndTag();
+        assertNull(mockPageContext.getAttribute("labels"));
+    }
+}
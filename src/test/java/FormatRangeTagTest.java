@@ -0,0 +1,112 @@
+import jakarta.servlet.jsp.JspException;
+import net.sargue.time.jsptags.FormatRangeTag;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockPageContext;
+import org.springframework.mock.web.MockServletContext;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Range format tests.
+ *
+ * @author Sergi Baila
+ */
+public class FormatRangeTagTest {
+
+    private MockPageContext mockPageContext;
+
+    @Before
+    public void setup() {
+        Locale.setDefault(Locale.forLanguageTag("ca"));
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+        mockPageContext = new MockPageContext(new MockServletContext());
+    }
+
+    @Test
+    public void dateRangeTest() throws JspException {
+        assertEquals("3–5 March 2026",
+                format(LocalDate.parse("2026-03-03"), LocalDate.parse("2026-03-05"), "d MMMM yyyy"));
+        assertEquals("28 February–5 March 2026",
+                format(LocalDate.parse("2026-02-28"), LocalDate.parse("2026-03-05"), "d MMMM yyyy"));
+        assertEquals("31 December 2025–5 January 2026",
+                format(LocalDate.parse("2025-12-31"), LocalDate.parse("2026-01-05"), "d MMMM yyyy"));
+        assertEquals("3 March 2026",
+                format(LocalDate.parse("2026-03-03"), LocalDate.parse("2026-03-03"), "d MMMM yyyy"));
+    }
+
+    @Test
+    public void timeRangeTest() throws JspException {
+        assertEquals("6 Nov 2015 10:00–11:30",
+                format(LocalDateTime.parse("2015-11-06T10:00"),
+                       LocalDateTime.parse("2015-11-06T11:30"), "d MMM yyyy HH:mm"));
+        assertEquals("6 Nov 2015 10:00–7 Nov 2015 11:00",
+                format(LocalDateTime.parse("2015-11-06T10:00"),
+                       LocalDateTime.parse("2015-11-07T11:00"), "d MMM yyyy HH:mm"));
+        // numbers are never split
+        assertEquals("10:00–11:30",
+                format(LocalDateTime.parse("2015-11-06T10:00"),
+                       LocalDateTime.parse("2015-11-06T11:30"), "HH:mm"));
+    }
+
+    @Test
+    public void significantFieldTest() throws JspException {
+        // the AM/PM marker differs, so the times are not split around it
+        assertEquals("9:30 AM–9:30 PM",
+                format(LocalTime.parse("09:30"), LocalTime.parse("21:30"), "h:mm a"));
+        assertEquals("9:30–11:30 AM",
+                format(LocalTime.parse("09:30"), LocalTime.parse("11:30"), "h:mm a"));
+        // the year differs, so the equal time is not printed once
+        assertEquals("6 Nov 2015 10:00–6 Nov 2016 10:00",
+                format(LocalDateTime.parse("2015-11-06T10:00"),
+                       LocalDateTime.parse("2016-11-06T10:00"), "d MMM yyyy HH:mm"));
+        assertEquals("Nov 6, 2015–Nov 6, 2016",
+                format(LocalDate.parse("2015-11-06"), LocalDate.parse("2016-11-06"), "MMM d, yyyy"));
+    }
+
+    @Test
+    public void zoneRangeTest() throws JspException {
+        // instants in the default time zone, which is printed once
+        assertEquals("6 Nov 2015 10:00–11:30 Europe/Paris",
+                format(Instant.parse("2015-11-06T09:00:00Z"), Instant.parse("2015-11-06T10:30:00Z"),
+                       "d MMM yyyy HH:mm VV"));
+        // local values are not converted, but the zone is printed
+        assertEquals("6 Nov 2015 10:00–11:30 Europe/Paris",
+                format(LocalDateTime.parse("2015-11-06T10:00"),
+                       LocalDateTime.parse("2015-11-06T11:30"), "d MMM yyyy HH:mm VV"));
+    }
+
+    @Test
+    public void styleRangeTest() throws JspException {
+        // newer locale data has a narrow no-break space before AM
+        assertEquals("Nov 6, 2015, 10:00:00–11:30:00 AM",
+                format(LocalDateTime.parse("2015-11-06T10:00"),
+                       LocalDateTime.parse("2015-11-06T11:30"), null, "MM")
+                        .replace('\u202f', ' '));
+    }
+
+    private String format(Object from, Object to, String pattern) throws JspException {
+        return format(from, to, pattern, null);
+    }
+
+    private String format(Object from, Object to, String pattern, String style)
+            throws JspException {
+        FormatRangeTag formatRangeTag = new FormatRangeTag();
+        formatRangeTag.setPageContext(mockPageContext);
+        formatRangeTag.setFrom(from);
+        formatRangeTag.setTo(to);
+        formatRangeTag.setPattern(pattern);
+        formatRangeTag.setStyle(style);
+        formatRangeTag.setLocale("en");
+        formatRangeTag.setVar("range");
+        formatRangeTag.doEndTag();
+        return (String) mockPageContext.getAttribute("range");
+    }
+}
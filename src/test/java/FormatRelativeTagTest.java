@@ -0,0 +1,91 @@
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.PageContext;
+import net.sargue.time.jsptags.FormatRelativeTag;
+import net.sargue.time.jsptags.NowTag;
+import net.sargue.time.jsptags.Util;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockPageContext;
+import org.springframework.mock.web.MockServletContext;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Relative format tests.
+ *
+ * @author Sergi Baila
+ */
+public class FormatRelativeTagTest {
+
+    private static final Instant NOW = Instant.parse("2015-11-06T10:58:21Z");
+
+    private MockPageContext mockPageContext;
+
+    @Before
+    public void setup() {
+        Locale.setDefault(Locale.forLanguageTag("ca"));
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+        mockPageContext = new MockPageContext(new MockServletContext());
+        mockPageContext.setAttribute(Util.REQUEST_INSTANT, NOW, PageContext.REQUEST_SCOPE);
+    }
+
+    @Test
+    public void instantTest() throws JspException {
+        assertEquals("now", format(NOW.minusSeconds(59), "en"));
+        assertEquals("1 minute ago", format(NOW.minusSeconds(60), "en"));
+        assertEquals("in 3 minutes", format(NOW.plusSeconds(200), "en"));
+        assertEquals("5 hours ago", format(NOW.minus(5, ChronoUnit.HOURS), "en"));
+        assertEquals("in 2 days", format(NOW.plus(2, ChronoUnit.DAYS), "en"));
+        assertEquals("3 weeks ago", format(NOW.minus(21, ChronoUnit.DAYS), "en"));
+        assertEquals("in 1 month", format(NOW.plus(45, ChronoUnit.DAYS), "en"));
+        assertEquals("2 years ago", format(NOW.minus(800, ChronoUnit.DAYS), "en"));
+        assertEquals("hace 2 días", format(NOW.minus(2, ChronoUnit.DAYS), "es"));
+        assertEquals("d'aquí a 1 hora", format(NOW.plus(1, ChronoUnit.HOURS), "ca"));
+    }
+
+    @Test
+    public void localTest() throws JspException {
+        // now is 11:58:21 in Paris
+        assertEquals("today", format(LocalDate.parse("2015-11-06"), "en"));
+        assertEquals("1 day ago", format(LocalDate.parse("2015-11-05"), "en"));
+        assertEquals("2 hours ago", format(LocalDateTime.parse("2015-11-06T09:00"), "en"));
+        assertEquals("in 12 hours", format(LocalDateTime.parse("2015-11-07T00:00"), "en"));
+    }
+
+    @Test
+    public void manyLocalesTest() throws JspException {
+        // more locales than the cache maps, all of them to a few bundles
+        for (String country : Locale.getISOCountries()) {
+            assertEquals("in 2 days", format(NOW.plus(2, ChronoUnit.DAYS), "en-" + country));
+            assertEquals("hace 2 días", format(NOW.minus(2, ChronoUnit.DAYS), "es-" + country));
+        }
+        assertEquals("d'aquí a 1 hora", format(NOW.plus(1, ChronoUnit.HOURS), "ca"));
+    }
+
+    @Test
+    public void nowTest() throws JspException {
+        NowTag nowTag = new NowTag();
+        nowTag.setPageContext(mockPageContext);
+        nowTag.setVar("now");
+        nowTag.doEndTag();
+        assertSame(NOW, mockPageContext.getAttribute("now"));
+    }
+
+    private String format(Object value, String locale) throws JspException {
+        FormatRelativeTag formatRelativeTag = new FormatRelativeTag();
+        formatRelativeTag.setPageContext(mockPageContext);
+        formatRelativeTag.setValue(value);
+        formatRelativeTag.setLocale(locale);
+        formatRelativeTag.setVar("relative");
+        formatRelativeTag.doEndTag();
+        return (String) mockPageContext.getAttribute("relative");
+    }
+}
@@ -1,11 +1,15 @@
 import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
 import net.sargue.time.jsptags.FormatTag;
+import net.sargue.time.jsptags.LazyFormattedValue;
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockPageContext;
 import org.springframework.mock.web.MockServletContext;
 
 import java.io.IOException;
+import java.sql.Timestamp;
 import java.time.DayOfWeek;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -19,12 +23,17 @@ import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.WeekFields;
+import java.util.Calendar;
+import java.util.Date;
 import java.util.Locale;
 import java.util.TimeZone;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 
 /**
@@ -203,6 +212,179 @@ public class FormatTagTest {
         assertEquals("2:04:47 (Hora estàndard del Pacífic d’Amèrica del Nord)", format(pstZonedDateTime, null, "-F"));
     }
 
+    @Test
+    public void lazyTest() throws JspException {
+        MockPageContext mockPageContext = new MockPageContext(mockServletContext);
+        FormatTag formatTag = new FormatTag();
+        formatTag.setPageContext(mockPageContext);
+        formatTag.setValue(LocalDate.parse("2015-11-06"));
+        formatTag.setPattern("dd/MM/yyyy");
+        formatTag.setVar("formatted");
+        formatTag.setLazy(true);
+        formatTag.doEndTag();
+        LazyFormattedValue formatted = (LazyFormattedValue) mockPageContext.getAttribute("formatted");
+        assertFalse(formatted.isFormatted());
+        assertEquals("06/11/2015", formatted.toString());
+        assertTrue(formatted.isFormatted());
+    }
+
+    @Test
+    public void memoTest() throws JspException, IOException {
+        MockPageContext mockPageContext = new MockPageContext(mockServletContext);
+        LocalDate localDate = LocalDate.parse("2015-11-06");
+        for (String pattern : new String[] { "dd/MM/yyyy", "dd/MM/yyyy", "d MMM yyyy" }) {
+            FormatTag formatTag = new FormatTag();
+            formatTag.setPageContext(mockPageContext);
+            formatTag.setValue(localDate);
+            formatTag.setPattern(pattern);
+            formatTag.setMemo("request");
+            formatTag.doEndTag();
+        }
+        assertEquals("06/11/201506/11/20156 de nov. 2015", mockPageContext.getContentAsString());
+    }
+
+    @Test
+    public void memoEvictionTest() throws JspException, IOException {
+        MockPageContext mockPageContext = new MockPageContext(mockServletContext);
+        LocalDate localDate = LocalDate.parse("2015-01-01");
+        StringBuilder expected = new StringBuilder();
+        // twice the entries of the request memo, formatted twice each
+        for (int i = 0; i < 256; i++) {
+            LocalDate value = localDate.plusDays(i % 128);
+            FormatTag formatTag = new FormatTag();
+            formatTag.setPageContext(mockPageContext);
+            formatTag.setValue(value);
+            formatTag.setPattern("dd/MM/yyyy");
+            formatTag.setMemo("request");
+            formatTag.doEndTag();
+            expected.append(String.format("%02d/%02d/%d", value.getDayOfMonth(),
+                                          value.getMonthValue(), value.getYear()));
+        }
+        assertEquals(expected.toString(), mockPageContext.getContentAsString());
+    }
+
+    @Test
+    public void numericPatternTest() throws JspException, IOException {
+        MockPageContext mockPageContext = new MockPageContext(mockServletContext);
+        ((MockHttpServletRequest) mockPageContext.getRequest()).addPreferredLocale(new Locale("es"));
+        FormatTag formatTag = new FormatTag();
+        formatTag.setPageContext(mockPageContext);
+        formatTag.setValue(LocalDate.parse("2015-11-06"));
+        formatTag.setPattern("dd/MM/yyyy");
+        formatTag.doEndTag();
+        // the locale is not negotiated so the response locale is untouched
+        assertEquals(Locale.getDefault(), mockPageContext.getResponse().getLocale());
+
+        formatTag.setPattern("d MMM yyyy");
+        formatTag.doEndTag();
+        assertEquals(new Locale("es"), mockPageContext.getResponse().getLocale());
+        assertEquals("06/11/20156 nov 2015", mockPageContext.getContentAsString());
+
+        // the zone does not apply to an offset time without zone fields
+        OffsetTime offsetTime = OffsetTime.parse("11:01:39.810+01:00");
+        formatTag.setValue(offsetTime);
+        formatTag.setPattern("HH:mm");
+        formatTag.setZoneId("UTC");
+        formatTag.doEndTag();
+        assertEquals("06/11/20156 nov 201511:01", mockPageContext.getContentAsString());
+    }
+
+    @Test
+    public void isoFastPathTest() throws JspException, IOException {
+        assertEquals("2015-11-06", format(LocalDate.parse("2015-11-06"), "yyyy-MM-dd", null));
+        assertEquals("2015-11-06", format(LocalDateTime.parse("2015-11-06T10:00"), "uuuu-MM-dd", null));
+        assertEquals("2015-11-06T10:00:00",
+                format(LocalDateTime.parse("2015-11-06T10:00"), "yyyy-MM-dd'T'HH:mm:ss", null));
+        // years out of the fast path range use the formatter
+        assertEquals("0001-01-01", format(LocalDate.of(0, 1, 1), "yyyy-MM-dd", null));
+        assertEquals("+10000-01-01", format(LocalDate.of(10000, 1, 1), "uuuu-MM-dd", null));
+    }
+
+    @Test
+    public void legacyValuesTest() throws JspException, IOException {
+        Instant instant = Instant.parse("2015-11-06T10:58:21.207Z");
+        String expected = "2015-11-06 11:58:21.207";
+        String pattern = "yyyy-MM-dd HH:mm:ss.SSS";
+        assertEquals(expected, format(Date.from(instant), pattern, null));
+        assertEquals(expected, format(instant.toEpochMilli(), pattern, null));
+        assertEquals(expected, format(Timestamp.from(instant), pattern, null));
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        calendar.setTimeInMillis(instant.toEpochMilli());
+        assertEquals(expected, format(calendar, pattern, null));
+        assertEquals("2015-11-06", format(java.sql.Date.valueOf("2015-11-06"), "yyyy-MM-dd", null));
+    }
+
+    @Test
+    public void offsetTransitionTest() throws JspException, IOException {
+        // the Paris summer time ends at 2015-10-25T01:00:00Z
+        String pattern = "dd HH:mm:ss XXX";
+        assertEquals("25 02:30:00 +02:00", format(Instant.parse("2015-10-25T00:30:00Z"), pattern, null));
+        assertEquals("25 02:00:00 +01:00", format(Instant.parse("2015-10-25T01:00:00Z"), pattern, null));
+        assertEquals("25 02:59:59 +02:00", format(Instant.parse("2015-10-25T00:59:59Z"), pattern, null));
+        assertEquals("26 10:00:00 +01:00", format(Instant.parse("2015-10-26T09:00:00Z"), pattern, null));
+        assertEquals("01 12:00:00 +02:00", format(Instant.parse("2015-07-01T10:00:00Z"), pattern, null));
+        // zone names still use the region
+        assertEquals("02:30 CEST", format(Instant.parse("2015-10-25T00:30:00Z"), "HH:mm z", null));
+        assertEquals("02:30 CET", format(Instant.parse("2015-10-25T01:30:00Z"), "HH:mm z", null));
+    }
+
+    @Test
+    public void offsetSpreadTest() throws JspException, IOException {
+        String pattern = "yyyy-MM-dd HH:mm:ss XXX";
+        DateTimeFormatter expected = DateTimeFormatter.ofPattern(pattern)
+                                                      .withZone(ZoneId.of("Europe/Paris"));
+        Instant start = Instant.parse("1940-06-01T00:30:00Z");
+        // hours, weeks, months and years apart, and back and forth between periods
+        long[] steps = {3_600L, 604_800L, 3_100_003L, 40_000_003L};
+        for (long step : steps) {
+            for (int i = 0; i < 400; i++) {
+                Instant instant = start.plusSeconds(step * i);
+                assertEquals(expected.format(instant), format(instant, pattern, null));
+                Instant back = start.plusSeconds(step * (400 - i));
+                assertEquals(expected.format(back), format(back, pattern, null));
+            }
+        }
+    }
+
+    @Test
+    public void clientModeTest() throws JspException, IOException {
+        MockPageContext mockPageContext = new MockPageContext(mockServletContext);
+        FormatTag formatTag = new FormatTag();
+        formatTag.setPageContext(mockPageContext);
+        formatTag.setMode("client");
+        formatTag.setValue(LocalDate.parse("2015-11-06"));
+        formatTag.setPattern("d MMM 'of' yyyy");
+        formatTag.setLocale("es");
+        formatTag.doEndTag();
+        assertEquals("<time datetime=\"2015-11-06\" data-javatime-pattern=\"d MMM &#039;of&#039; yyyy\"" +
+                     " data-javatime-locale=\"es\"></time>",
+                     mockPageContext.getContentAsString());
+
+        formatTag = new FormatTag();
+        formatTag.setPageContext(mockPageContext);
+        formatTag.setMode("client");
+        formatTag.setFallback(true);
+        formatTag.setValue(ZonedDateTime.parse("2015-11-06T10:45:33+01:00[Europe/Paris]"));
+        formatTag.setStyle("-S");
+        formatTag.setZoneId("UTC");
+        formatTag.setVar("time");
+        formatTag.doEndTag();
+        assertEquals("<time datetime=\"2015-11-06T09:45:33Z\" data-javatime-style=\"-S\"" +
+                     " data-javatime-locale=\"ca\" data-javatime-zone=\"UTC\">9:45</time>",
+                     mockPageContext.getAttribute("time"));
+
+        // values without an ISO form are formatted by the server
+        formatTag.setValue(MonthDay.of(11, 6));
+        formatTag.setPattern("d/M");
+        formatTag.doEndTag();
+        assertEquals("6/11", mockPageContext.getAttribute("time"));
+    }
+
+    @Test(expected = JspTagException.class)
+    public void invalidModeTest() throws JspException {
+        new FormatTag().setMode("browser");
+    }
+
     private String format(Object o, String pattern, String style) throws JspException, IOException {
         MockPageContext mockPageContext = new MockPageContext(mockServletContext);
         mockPageContext.getRequest().setCharacterEncoding("UTF-8");
@@ -0,0 +1,78 @@
+import jakarta.servlet.jsp.JspException;
+import net.sargue.time.jsptags.FormatTemplateTag;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockPageContext;
+import org.springframework.mock.web.MockServletContext;
+
+import java.io.UnsupportedEncodingException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Template format tests.
+ *
+ * @author Sergi Baila
+ */
+public class FormatTemplateTagTest {
+
+    private MockPageContext mockPageContext;
+
+    @Before
+    public void setup() {
+        Locale.setDefault(Locale.forLanguageTag("ca"));
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+        mockPageContext = new MockPageContext(new MockServletContext());
+    }
+
+    @Test
+    public void templateTest() throws JspException {
+        Instant instant = Instant.parse("2015-11-06T10:58:21Z");
+        assertEquals("Posted Nov 6 at 11:58",
+                format(instant, "Posted {date:MMM d} at {time:HH:mm}", null));
+        assertEquals("Posted Nov 6 at 05:58 (EST)",
+                format(instant, "Posted {date:MMM d} at {time:HH:mm} ({z})", "America/New_York"));
+        assertEquals("{2015-11-06} 11/6/15",
+                format(instant, "{{{yyyy-MM-dd}} {style:S-}", null));
+        assertEquals("2015-11-06", format(LocalDate.parse("2015-11-06"), "{yyyy-MM-dd}", null));
+        assertEquals("no fields", format(LocalDate.parse("2015-11-06"), "no fields", null));
+    }
+
+    @Test
+    public void printTest() throws JspException, UnsupportedEncodingException {
+        FormatTemplateTag formatTemplateTag = new FormatTemplateTag();
+        formatTemplateTag.setPageContext(mockPageContext);
+        formatTemplateTag.setValue(LocalDate.parse("2015-11-06"));
+        formatTemplateTag.setTemplate("Day {d}, month {MM}");
+        formatTemplateTag.doEndTag();
+        assertEquals("Day 6, month 11", mockPageContext.getContentAsString());
+    }
+
+    @Test
+    public void unlabelledColonTest() throws JspException {
+        Instant instant = Instant.parse("2015-11-06T10:58:21Z");
+        assertEquals("at 11:58", format(instant, "at {HH:mm}", null));
+        assertEquals("11:58:21 on 6/11", format(instant, "{HH:mm:ss} on {d/M}", null));
+    }
+
+    @Test(expected = JspException.class)
+    public void unknownLabelTest() throws JspException {
+        format(LocalDate.parse("2015-11-06"), "{year:yyyy}", null);
+    }
+
+    private String format(Object value, String template, String zoneId) throws JspException {
+        FormatTemplateTag formatTemplateTag = new FormatTemplateTag();
+        formatTemplateTag.setPageContext(mockPageContext);
+        formatTemplateTag.setValue(value);
+        formatTemplateTag.setTemplate(template);
+        formatTemplateTag.setLocale("en");
+        formatTemplateTag.setZoneId(zoneId);
+        formatTemplateTag.setVar("formatted");
+        formatTemplateTag.doEndTag();
+        return (String) mockPageContext.getAttribute("formatted");
+    }
+}
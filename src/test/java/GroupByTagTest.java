@@ -0,0 +1,100 @@
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
+import net.sargue.time.jsptags.GroupByTag;
+import net.sargue.time.jsptags.TemporalGroup;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockPageContext;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Grouping iteration tests.
+ *
+ * @author Sergi Baila
+ */
+public class GroupByTagTest {
+
+    private MockPageContext mockPageContext;
+
+    @Before
+    public void setup() {
+        Locale.setDefault(Locale.forLanguageTag("ca"));
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+        mockPageContext = LoopTags.pageContext();
+    }
+
+    @Test
+    public void daysInZoneTest() throws JspException {
+        Instant late = Instant.parse("2026-03-04T23:30:00Z");
+        List<Instant> events = Arrays.asList(
+                Instant.parse("2026-03-04T08:00:00Z"),
+                Instant.parse("2026-03-04T22:00:00Z"),
+                late,
+                Instant.parse("2026-03-05T10:00:00Z"));
+
+        List<TemporalGroup> groups = groupBy(events, "days", "UTC");
+        assertEquals(2, groups.size());
+        assertEquals(3, groups.get(0).getSize());
+        assertEquals("4 Mar 2026", groups.get(0).getHeader());
+
+        // 00:30 in Paris is already the next day
+        groups = groupBy(events, "DAYS", "Europe/Paris");
+        assertEquals(2, groups.size());
+        assertEquals(2, groups.get(0).getSize());
+        assertEquals(late, groups.get(1).getItems().get(0));
+        assertEquals(LocalDate.of(2026, 3, 5), groups.get(1).getStart());
+    }
+
+    @Test
+    public void weeksAndMonthsTest() throws JspException {
+        List<Object> values = Arrays.asList(
+                LocalDate.of(2026, 2, 28),
+                LocalDateTime.of(2026, 3, 1, 12, 0),
+                LocalDate.of(2026, 3, 2));
+
+        // Saturday, Sunday and Monday
+        List<TemporalGroup> weeks = groupBy(values, "WEEKS", null);
+        assertEquals(2, weeks.size());
+        assertEquals(LocalDate.of(2026, 2, 23), weeks.get(0).getStart());
+        assertEquals(2, weeks.get(0).getSize());
+
+        List<TemporalGroup> months = groupBy(values, "MONTHS", null);
+        assertEquals(2, months.size());
+        assertEquals("February 2026", months.get(0).getHeader());
+        assertEquals(LocalDate.of(2026, 3, 1), months.get(1).getStart());
+
+        assertEquals(Collections.emptyList(), groupBy(null, "YEARS", null));
+    }
+
+    @Test(expected = JspTagException.class)
+    public void withoutDateTest() throws JspException {
+        groupBy(Collections.singletonList(LocalTime.NOON), "DAYS", null);
+    }
+
+    @Test(expected = JspTagException.class)
+    public void invalidUnitTest() throws JspException {
+        new GroupByTag().setUnit("HOURS");
+    }
+
+    private List<TemporalGroup> groupBy(Object items, String unit, String zoneId)
+            throws JspException {
+        GroupByTag groupByTag = new GroupByTag();
+        groupByTag.setPageContext(mockPageContext);
+        groupByTag.setItems(items);
+        groupByTag.setUnit(unit);
+        groupByTag.setZoneId(zoneId);
+        groupByTag.setLocale(Locale.UK);
+        return LoopTags.iterate(groupByTag, mockPageContext, TemporalGroup.class);
+    }
+}
@@ -0,0 +1,93 @@
+import jakarta.servlet.jsp.JspException;
+import net.sargue.time.jsptags.ParseColumnTag;
+import net.sargue.time.jsptags.ParseLocalDateTag;
+import net.sargue.time.jsptags.ParseLocalDateTimeTag;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockPageContext;
+import org.springframework.mock.web.MockServletContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Checks that the fixed-width ISO fast path of parseColumn gives the same
+ * results as the single value parse tags.
+ *
+ * @author Sergi Baila
+ */
+public class IsoDateParserTest {
+
+    private MockPageContext mockPageContext;
+
+    @Before
+    public void setup() {
+        Locale.setDefault(Locale.forLanguageTag("ca"));
+        mockPageContext = new MockPageContext(new MockServletContext());
+    }
+
+    @Test
+    public void localDatesMatchParseLocalDate() throws JspException {
+        List<String> inputs = new ArrayList<>();
+        for (LocalDate d = LocalDate.of(1599, 12, 25); d.getYear() < 2401; d = d.plusDays(13)) {
+            inputs.add(d.toString());
+        }
+        // adjusted by the SMART resolver, handled by the formatter fallback
+        inputs.add("2015-02-30");
+        inputs.add("2016-02-30");
+        inputs.add("2015-04-31");
+        inputs.add("0001-01-01");
+        List<?> column = parseColumn(inputs, "yyyy-MM-dd", "LocalDate");
+        for (int i = 0; i < inputs.size(); i++) {
+            ParseLocalDateTag tag = new ParseLocalDateTag();
+            tag.setPageContext(mockPageContext);
+            tag.setValue(inputs.get(i));
+            tag.setPattern("yyyy-MM-dd");
+            tag.setVar("expected");
+            tag.doEndTag();
+            Assert.assertEquals(inputs.get(i), mockPageContext.getAttribute("expected"), column.get(i));
+        }
+    }
+
+    @Test
+    public void localDateTimesMatchParseLocalDateTime() throws JspException {
+        List<String> inputs = new ArrayList<>();
+        for (LocalDateTime d = LocalDateTime.of(1899, 12, 31, 23, 59, 59);
+             d.getYear() < 2101; d = d.plusSeconds(997_331)) {
+            inputs.add(d.toString().length() == 19 ? d.toString() : d.toString() + ":00");
+        }
+        inputs.add("2015-10-28T24:00:00");
+        List<?> column = parseColumn(inputs, "yyyy-MM-dd'T'HH:mm:ss", "LocalDateTime");
+        for (int i = 0; i < inputs.size(); i++) {
+            ParseLocalDateTimeTag tag = new ParseLocalDateTimeTag();
+            tag.setPageContext(mockPageContext);
+            tag.setValue(inputs.get(i));
+            tag.setPattern("yyyy-MM-dd'T'HH:mm:ss");
+            tag.setVar("expected");
+            tag.doEndTag();
+            Assert.assertEquals(inputs.get(i), mockPageContext.getAttribute("expected"), column.get(i));
+        }
+    }
+
+    @Test(expected = JspException.class)
+    public void invalidDateFallsBackToFormatterError() throws JspException {
+        List<String> inputs = new ArrayList<>();
+        inputs.add("2015-13-01");
+        parseColumn(inputs, "yyyy-MM-dd", "LocalDate");
+    }
+
+    private List<?> parseColumn(List<String> inputs, String pattern, String type) throws JspException {
+        ParseColumnTag tag = new ParseColumnTag();
+        tag.setPageContext(mockPageContext);
+        tag.setItems(inputs);
+        tag.setPattern(pattern);
+        tag.setType(type);
+        tag.setVar("column");
+        tag.doEndTag();
+        return (List<?>) mockPageContext.getAttribute("column");
+    }
+}
@@ -0,0 +1,100 @@
+import jakarta.el.ELContext;
+import jakarta.el.ELResolver;
+import jakarta.el.FunctionMapper;
+import jakarta.el.ValueExpression;
+import jakarta.el.VariableMapper;
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.PageContext;
+import jakarta.servlet.jsp.jstl.core.LoopTagSupport;
+import jakarta.servlet.jsp.tagext.Tag;
+import org.springframework.mock.web.MockPageContext;
+import org.springframework.mock.web.MockServletContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the iteration tags as the container does. <tt>LoopTagSupport</tt>
+ * maps its variables in the <tt>ELContext</tt> of the page, which is null in
+ * <tt>MockPageContext</tt>, so the page contexts of these tests have one.
+ *
+ * @author Sergi Baila
+ */
+final class LoopTags {
+
+    private LoopTags() {
+    }
+
+    /**
+     * Creates a page context with an <tt>ELContext</tt>.
+     *
+     * @return the page context
+     */
+    static MockPageContext pageContext() {
+        ELContext elContext = new ELContext() {
+            private final VariableMapper variables = new VariableMapper() {
+                private final Map<String, ValueExpression> map = new HashMap<>();
+
+                @Override
+                public ValueExpression resolveVariable(String variable) {
+                    return map.get(variable);
+                }
+
+                @Override
+                public ValueExpression setVariable(String variable, ValueExpression expression) {
+                    return expression == null ? map.remove(variable) : map.put(variable, expression);
+                }
+            };
+
+            @Override
+            public ELResolver getELResolver() {
+                return null;
+            }
+
+            @Override
+            public FunctionMapper getFunctionMapper() {
+                return null;
+            }
+
+            @Override
+            public VariableMapper getVariableMapper() {
+                return variables;
+            }
+        };
+        return new MockPageContext(new MockServletContext()) {
+            @Override
+            public ELContext getELContext() {
+                return elContext;
+            }
+        };
+    }
+
+    /**
+     * Runs an iteration tag to the end, collecting the variable of each
+     * iteration, and then its <tt>doFinally</tt>.
+     *
+     * @param tag the tag, with its page context set
+     * @param pageContext the page context of the tag
+     * @param type the type of the items
+     * @param <T> the type of the items
+     * @return the items
+     * @throws JspException if the tag fails
+     */
+    static <T> List<T> iterate(LoopTagSupport tag, PageContext pageContext, Class<T> type)
+            throws JspException {
+        tag.setVar("item");
+        List<T> items = new ArrayList<>();
+        try {
+            if (tag.doStartTag() != Tag.SKIP_BODY) {
+                do {
+                    items.add(type.cast(pageContext.getAttribute("item")));
+                } while (tag.doAfterBody() != Tag.SKIP_BODY);
+            }
+        } finally {
+            tag.doFinally();
+        }
+        return items;
+    }
+}
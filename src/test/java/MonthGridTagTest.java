@@ -0,0 +1,128 @@
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
+import jakarta.servlet.jsp.PageContext;
+import net.sargue.time.jsptags.MonthGridCell;
+import net.sargue.time.jsptags.MonthGridTag;
+import net.sargue.time.jsptags.Util;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockPageContext;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Month grid tests.
+ *
+ * @author Sergi Baila
+ */
+public class MonthGridTagTest {
+
+    private MockPageContext mockPageContext;
+
+    @Before
+    public void setup() {
+        Locale.setDefault(Locale.forLanguageTag("ca"));
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+        mockPageContext = LoopTags.pageContext();
+        // 2026-03-05 in Paris
+        mockPageContext.setAttribute(Util.REQUEST_INSTANT, Instant.parse("2026-03-04T23:30:00Z"),
+                                     PageContext.REQUEST_SCOPE);
+    }
+
+    @Test
+    public void mondayFirstTest() throws JspException {
+        List<MonthGridCell> cells = grid(YearMonth.of(2026, 3), null, Locale.UK);
+        assertEquals(42, cells.size());
+
+        MonthGridCell first = cells.get(0);
+        assertEquals(LocalDate.of(2026, 2, 23), first.getDate());
+        assertEquals(DayOfWeek.MONDAY, first.getDayOfWeek());
+        assertFalse(first.isInMonth());
+        assertTrue(first.isWeekStart());
+        assertEquals("23", first.getLabel());
+
+        MonthGridCell march1 = cells.get(6);
+        assertEquals(1, march1.getDay());
+        assertTrue(march1.isInMonth());
+        assertTrue(march1.isWeekend());
+        assertTrue(march1.isWeekEnd());
+
+        assertTrue(cells.get(10).isToday());
+        assertEquals(1, countToday(cells));
+        assertEquals(LocalDate.of(2026, 4, 5), cells.get(41).getDate());
+    }
+
+    @Test
+    public void sundayFirstTest() throws JspException {
+        List<MonthGridCell> cells = grid("2026-03", "EEE d", Locale.US);
+        assertEquals(35, cells.size());
+        assertEquals("Sun 1", cells.get(0).getLabel());
+        assertEquals("Sat 4", cells.get(34).getLabel());
+        assertFalse(cells.get(34).isInMonth());
+        // a month that fits exactly in four weeks gets the next one
+        List<MonthGridCell> february = grid(LocalDate.of(2026, 2, 14), null, Locale.US);
+        assertEquals(35, february.size());
+        assertEquals(LocalDate.of(2026, 3, 7), february.get(34).getDate());
+        assertFalse(february.get(34).isInMonth());
+    }
+
+    @Test
+    public void weekendTest() throws JspException {
+        // Saturday 7 and Sunday 8 of March 2026
+        List<MonthGridCell> cells = grid("2026-03", null, Locale.UK);
+        assertEquals(DayOfWeek.SATURDAY, cells.get(12).getDayOfWeek());
+        assertTrue(cells.get(12).isWeekend());
+        assertTrue(cells.get(13).isWeekend());
+        assertFalse(cells.get(11).isWeekend());
+        // Friday and Saturday in Saudi Arabia, also through the rg extension
+        for (Locale locale : new Locale[] {Locale.forLanguageTag("ar-SA"),
+                                           Locale.forLanguageTag("en-US-u-rg-sazzzz")}) {
+            cells = grid("2026-03", null, locale);
+            for (MonthGridCell cell : cells) {
+                DayOfWeek day = cell.getDayOfWeek();
+                assertEquals(locale + " " + day,
+                             day == DayOfWeek.FRIDAY || day == DayOfWeek.SATURDAY,
+                             cell.isWeekend());
+            }
+        }
+        // only Sunday in India
+        for (MonthGridCell cell : grid("2026-03", null, Locale.forLanguageTag("en-IN"))) {
+            assertEquals(cell.getDayOfWeek() == DayOfWeek.SUNDAY, cell.isWeekend());
+        }
+    }
+
+    @Test(expected = JspTagException.class)
+    public void invalidYearMonthTest() throws JspException {
+        grid(Instant.EPOCH, null, Locale.US);
+    }
+
+    private static int countToday(List<MonthGridCell> cells) {
+        int count = 0;
+        for (MonthGridCell cell : cells) {
+            if (cell.isToday()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private List<MonthGridCell> grid(Object yearMonth, String pattern, Locale locale)
+            throws JspException {
+        MonthGridTag monthGridTag = new MonthGridTag();
+        monthGridTag.setPageContext(mockPageContext);
+        monthGridTag.setYearMonth(yearMonth);
+        monthGridTag.setPattern(pattern);
+        monthGridTag.setLocale(locale);
+        return LoopTags.iterate(monthGridTag, mockPageContext, MonthGridCell.class);
+    }
+}
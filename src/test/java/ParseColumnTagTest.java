@@ -0,0 +1,66 @@
+import jakarta.servlet.jsp.JspException;
+import net.sargue.time.jsptags.ParseColumnTag;
+import net.sargue.time.jsptags.TemporalColumn;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockPageContext;
+import org.springframework.mock.web.MockServletContext;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Bulk parse tests.
+ *
+ * @author Sergi Baila
+ */
+public class ParseColumnTagTest {
+
+    private ParseColumnTag parseColumnTag;
+    private MockPageContext mockPageContext;
+
+    @Before
+    public void setup() {
+        Locale.setDefault(Locale.forLanguageTag("ca"));
+        mockPageContext = new MockPageContext(new MockServletContext());
+        parseColumnTag = new ParseColumnTag();
+        parseColumnTag.setPageContext(mockPageContext);
+        parseColumnTag.setVar("column");
+    }
+
+    @Test
+    public void parseDelimitedLocalDates() throws JspException {
+        parseColumnTag.setValue("28/10/2015, 29/10/2015,\n 01/01/1970,,");
+        parseColumnTag.setPattern("dd/MM/yyyy");
+        parseColumnTag.doEndTag();
+        TemporalColumn.OfLocalDate column =
+                (TemporalColumn.OfLocalDate) mockPageContext.getAttribute("column");
+        Assert.assertEquals(3, column.size());
+        Assert.assertEquals(0, column.getEpochDay(2));
+        Assert.assertEquals(Arrays.asList(LocalDate.of(2015, 10, 28),
+                LocalDate.of(2015, 10, 29), LocalDate.of(1970, 1, 1)), column);
+    }
+
+    @Test
+    public void parseInstantItems() throws JspException {
+        parseColumnTag.setItems(Arrays.asList("2015-11-06 09:45:33.652", "2015-11-06 09:45:34.000"));
+        parseColumnTag.setPattern("yyyy-MM-dd HH:mm:ss.SSS");
+        parseColumnTag.setZoneId("UTC");
+        parseColumnTag.setType("Instant");
+        parseColumnTag.doEndTag();
+        TemporalColumn.OfInstant column =
+                (TemporalColumn.OfInstant) mockPageContext.getAttribute("column");
+        Assert.assertEquals(652000000, column.getNano(0));
+        Assert.assertEquals(Instant.parse("2015-11-06T09:45:34Z"), column.get(1));
+    }
+
+    @Test(expected = JspException.class)
+    public void parseError() throws JspException {
+        parseColumnTag.setValue("28/10/2015,2015-10-29");
+        parseColumnTag.setPattern("dd/MM/yyyy");
+        parseColumnTag.doEndTag();
+    }
+}
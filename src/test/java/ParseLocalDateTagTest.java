@@ -8,6 +8,7 @@ import org.springframework.mock.web.MockServletContext;
 
 import java.io.UnsupportedEncodingException;
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
 /**
@@ -46,4 +47,45 @@ public class ParseLocalDateTagTest {
         LocalDate localDate = (LocalDate) date;
         Assert.assertEquals(LocalDate.of(2015, 10, 28), localDate);
     }
+
+    @Test
+    public void parseCachedToVar() throws JspException {
+        for (int i = 0; i < 2; i++) {
+            parseLocalDateTag = new ParseLocalDateTag();
+            parseLocalDateTag.setPageContext(mockPageContext);
+            parseLocalDateTag.setValue("28/10/2015");
+            parseLocalDateTag.setPattern("dd/MM/yyyy");
+            parseLocalDateTag.setCache(true);
+            parseLocalDateTag.setVar("date" + i);
+            parseLocalDateTag.doEndTag();
+        }
+        Assert.assertEquals(LocalDate.of(2015, 10, 28), mockPageContext.getAttribute("date0"));
+        Assert.assertSame(mockPageContext.getAttribute("date0"), mockPageContext.getAttribute("date1"));
+    }
+
+    @Test
+    public void parseCachedOverflow() throws JspException {
+        Object hot = parseCached("28/10/2015");
+        LocalDate date = LocalDate.of(1900, 1, 1);
+        // many more distinct inputs than the cache holds, the hot one kept in use
+        for (int i = 0; i < 5_000; i++) {
+            date = date.plusDays(1);
+            Assert.assertEquals(date, parseCached(date.format(DateTimeFormatter.ofPattern("dd/MM/yyyy"))));
+            if (i % 10 == 0) {
+                Assert.assertSame(hot, parseCached("28/10/2015"));
+            }
+        }
+        Assert.assertSame(hot, parseCached("28/10/2015"));
+    }
+
+    private Object parseCached(String value) throws JspException {
+        parseLocalDateTag = new ParseLocalDateTag();
+        parseLocalDateTag.setPageContext(mockPageContext);
+        parseLocalDateTag.setValue(value);
+        parseLocalDateTag.setPattern("dd/MM/yyyy");
+        parseLocalDateTag.setCache(true);
+        parseLocalDateTag.setVar("date");
+        parseLocalDateTag.doEndTag();
+        return mockPageContext.getAttribute("date");
+    }
 }
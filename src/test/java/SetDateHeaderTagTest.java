@@ -0,0 +1,72 @@
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.JspTagException;
+import jakarta.servlet.jsp.PageContext;
+import net.sargue.time.jsptags.SetDateHeaderTag;
+import net.sargue.time.jsptags.Util;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockPageContext;
+import org.springframework.mock.web.MockServletContext;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * HTTP date header tests.
+ *
+ * @author Sergi Baila
+ */
+public class SetDateHeaderTagTest {
+
+    private MockPageContext mockPageContext;
+
+    @Before
+    public void setup() {
+        Locale.setDefault(Locale.forLanguageTag("ca"));
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+        mockPageContext = new MockPageContext(new MockServletContext());
+        mockPageContext.setAttribute(Util.REQUEST_INSTANT, Instant.parse("2015-11-06T09:45:33.652Z"),
+                                     PageContext.REQUEST_SCOPE);
+    }
+
+    @Test
+    public void currentInstantTest() throws JspException {
+        assertEquals("Fri, 06 Nov 2015 09:45:33 GMT", header(null, null));
+        assertEquals("Fri, 06 Nov 2015 10:45:33 GMT", header(null, "PT1H"));
+        assertEquals("Thu, 05 Nov 2015 09:45:33 GMT", header(null, Duration.ofDays(-1)));
+        // the cached second is reused
+        assertEquals("Fri, 06 Nov 2015 10:45:33 GMT", header(null, "PT1H"));
+    }
+
+    @Test
+    public void valuesTest() throws JspException {
+        assertEquals("Fri, 06 Nov 2015 09:45:33 GMT",
+                     header(ZonedDateTime.parse("2015-11-06T10:45:33+01:00[Europe/Paris]"), null));
+        assertEquals("Thu, 01 Jan 1970 00:00:01 GMT", header(new Date(1999), null));
+        // local values are in the time zone of the page
+        assertEquals("Thu, 05 Nov 2015 23:00:00 GMT", header(LocalDate.of(2015, 11, 6), null));
+    }
+
+    @Test(expected = JspTagException.class)
+    public void invalidOffsetTest() throws JspException {
+        header(null, "1 hour");
+    }
+
+    private String header(Object value, Object offset) throws JspException {
+        SetDateHeaderTag setDateHeaderTag = new SetDateHeaderTag();
+        setDateHeaderTag.setPageContext(mockPageContext);
+        setDateHeaderTag.setName("Expires");
+        setDateHeaderTag.setValue(value);
+        setDateHeaderTag.setOffset(offset);
+        setDateHeaderTag.doEndTag();
+        return ((MockHttpServletResponse) mockPageContext.getResponse()).getHeader("Expires");
+    }
+}
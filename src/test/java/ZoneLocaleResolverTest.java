@@ -0,0 +1,76 @@
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.PageContext;
+import net.sargue.time.jsptags.FormatTag;
+import net.sargue.time.jsptags.ZoneLocaleResolver;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockPageContext;
+import org.springframework.mock.web.MockServletContext;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the resolver SPI, with a resolver registered in the test resources.
+ *
+ * @author Sergi Baila
+ */
+public class ZoneLocaleResolverTest {
+
+    private MockPageContext mockPageContext;
+
+    @Before
+    public void setup() {
+        Locale.setDefault(Locale.forLanguageTag("ca"));
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+        mockPageContext = new MockPageContext(new MockServletContext());
+    }
+
+    @Test
+    public void withoutTenantTest() throws JspException {
+        assertEquals("11:58 de nov.", format());
+    }
+
+    @Test
+    public void tenantTest() throws JspException {
+        mockPageContext.setAttribute(TenantResolver.ZONE_ID, ZoneId.of("America/New_York"),
+                                     PageContext.REQUEST_SCOPE);
+        mockPageContext.setAttribute(TenantResolver.LOCALE, new Locale("es"),
+                                     PageContext.REQUEST_SCOPE);
+        assertEquals("05:58 nov", format());
+        assertEquals(new Locale("es"), mockPageContext.getResponse().getLocale());
+    }
+
+    private String format() throws JspException {
+        FormatTag formatTag = new FormatTag();
+        formatTag.setPageContext(mockPageContext);
+        formatTag.setValue(Instant.parse("2015-11-06T10:58:21Z"));
+        formatTag.setPattern("HH:mm MMM");
+        formatTag.setVar("formatted");
+        formatTag.doEndTag();
+        return (String) mockPageContext.getAttribute("formatted");
+    }
+
+    /**
+     * Resolves the zone and locale of the tenant from request attributes.
+     */
+    public static class TenantResolver implements ZoneLocaleResolver {
+
+        static final String ZONE_ID = "tenant.zoneId";
+        static final String LOCALE = "tenant.locale";
+
+        @Override
+        public ZoneId resolveZoneId(PageContext pc) {
+            return (ZoneId) pc.getAttribute(ZONE_ID, PageContext.REQUEST_SCOPE);
+        }
+
+        @Override
+        public Locale resolveLocale(PageContext pc) {
+            return (Locale) pc.getAttribute(LOCALE, PageContext.REQUEST_SCOPE);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.PageContext;
+import jakarta.servlet.jsp.jstl.core.Config;
+import net.sargue.time.jsptags.ZoneIdSupport;
+import net.sargue.time.jsptags.ZoneOptionsTag;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockPageContext;
+import org.springframework.mock.web.MockServletContext;
+
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Time zone picker tests.
+ *
+ * @author Sergi Baila
+ */
+public class ZoneOptionsTagTest {
+
+    private MockPageContext mockPageContext;
+
+    @Before
+    public void setup() {
+        Locale.setDefault(Locale.forLanguageTag("ca"));
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+        mockPageContext = new MockPageContext(new MockServletContext());
+    }
+
+    @Test
+    public void selectedTest() throws JspException, IOException {
+        String options = render("Asia/Tokyo", "en");
+        assertTrue(options.startsWith("<option value=\""));
+        assertTrue(options.contains("<option value=\"Asia/Tokyo\" selected>(UTC+09:00) Japan Time - Tokyo</option>"));
+        assertTrue(options.contains("<option value=\"UTC\">(UTC) Coordinated Universal Time</option>"));
+        assertEquals(options.indexOf(" selected"), options.lastIndexOf(" selected"));
+        // sorted by offset
+        assertTrue(options.indexOf("\"America/New_York\"") < options.indexOf("\"UTC\""));
+        assertTrue(options.indexOf("\"UTC\"") < options.indexOf("\"Asia/Tokyo\""));
+        // non geographical zones are not included
+        assertFalse(options.contains("\"Etc/GMT+1\""));
+    }
+
+    @Test
+    public void cachedOptionsTest() throws JspException, IOException {
+        String tokyo = render(ZoneId.of("Asia/Tokyo"), "en");
+        mockPageContext = new MockPageContext(new MockServletContext());
+        String none = render("Unknown/Zone", "en");
+        assertFalse(none.contains(" selected"));
+        assertEquals(none, tokyo.replace(" selected", ""));
+    }
+
+    @Test
+    public void nearestLocaleTest() throws JspException, IOException {
+        String spanish = render("Asia/Tokyo", "es");
+        mockPageContext = new MockPageContext(new MockServletContext());
+        // not an available locale, it shares the options of its language
+        assertEquals(spanish, render("Asia/Tokyo", "es-XX-POSIX"));
+    }
+
+    @Test
+    public void concurrentLocalesTest() throws Exception {
+        String[] locales = { "fr", "de", "it", "pt", "ja", "fr", "de", "it", "pt", "ja" };
+        ExecutorService executor = Executors.newFixedThreadPool(locales.length);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (String locale : locales) {
+                results.add(executor.submit(() -> render(new MockPageContext(new MockServletContext()),
+                                                         "Asia/Tokyo", locale)));
+            }
+            for (int i = 0; i < locales.length; i++) {
+                mockPageContext = new MockPageContext(new MockServletContext());
+                assertEquals(render("Asia/Tokyo", locales[i]), results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void pageZoneTest() throws JspException, IOException {
+        Config.set(mockPageContext, ZoneIdSupport.FMT_TIME_ZONE, ZoneId.of("Europe/Madrid"),
+                   PageContext.PAGE_SCOPE);
+        String options = render(null, "es");
+        assertTrue(options.contains("<option value=\"Europe/Madrid\" selected>"));
+        assertTrue(options.contains("hora de Japón - Tokyo"));
+    }
+
+    private String render(Object selected, String locale)
+            throws JspException, IOException {
+        return render(mockPageContext, selected, locale);
+    }
+
+    private static String render(MockPageContext pageContext, Object selected, String locale)
+            throws JspException, IOException {
+        ZoneOptionsTag zoneOptionsTag = new ZoneOptionsTag();
+        zoneOptionsTag.setPageContext(pageContext);
+        zoneOptionsTag.setSelected(selected);
+        zoneOptionsTag.setLocale(locale);
+        zoneOptionsTag.doEndTag();
+        return pageContext.getContentAsString();
+    }
+}